@@ -15,9 +15,12 @@
 package org.eclipse.debug.jdi.tests;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
+import org.eclipse.jdi.internal.MirrorImpl;
+
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
@@ -27,6 +30,7 @@ import com.sun.jdi.IntegerValue;
 import com.sun.jdi.InterfaceType;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.InvocationException;
+import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.StringReference;
@@ -217,6 +221,39 @@ public class ClassTypeTest extends AbstractJDITest {
 		}
 		assertEquals("2", 1, locations.size());
 	}
+	/**
+	 * Test that locationsOfLine(int) answers from the index of the lines of the
+	 * type after the first lookup, for the lines of all its methods, with the
+	 * same locations as the methods themselves and without requests to the VM.
+	 */
+	public void testJDILocationsOfLineIndexed() {
+		try {
+			fType.locationsOfLine(getLocation().lineNumber());
+			int requestCount = MirrorImpl.getRequestCount();
+			int lineCount = 0;
+			for (Method method : fType.methods()) {
+				if (method.isAbstract() || method.isNative()) {
+					continue;
+				}
+				for (Location location : method.allLineLocations()) {
+					int line = location.lineNumber();
+					List<Location> expected = new ArrayList<>();
+					for (Method other : fType.methods()) {
+						if (!other.isAbstract() && !other.isNative()) {
+							expected.addAll(other.locationsOfLine(line));
+						}
+					}
+					assertEquals("1", new HashSet<>(expected), new HashSet<>(fType.locationsOfLine(line)));
+					lineCount++;
+				}
+			}
+			assertTrue("2", lineCount > 1);
+			assertEquals("3", requestCount, MirrorImpl.getRequestCount());
+			assertTrue("4", fType.locationsOfLine(Integer.MAX_VALUE).isEmpty());
+		} catch (AbsentInformationException e) {
+			fail("5");
+		}
+	}
 	/**
 	 * Test JDI methodByName
 	 */
@@ -17,6 +17,8 @@ package org.eclipse.debug.jdi.tests;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+
 import com.sun.jdi.Field;
 import com.sun.jdi.Location;
 import com.sun.jdi.request.AccessWatchpointRequest;
@@ -113,6 +115,28 @@ public class EventRequestManagerTest extends AbstractJDITest {
 		fManager.deleteAllBreakpoints();
 		assertEquals("5", 0, fManager.breakpointRequests().size());
 	}
+	/**
+	 * Test enabling several requests at once with
+	 * EventRequestManagerImpl.enableEventRequests(List)
+	 */
+	public void testJDIEnableEventRequests() {
+		assertTrue("1", fManager instanceof EventRequestManagerImpl);
+		Location location = getLocation();
+		BreakpointRequest bp1 = fManager.createBreakpointRequest(location);
+		BreakpointRequest bp2 = fManager.createBreakpointRequest(location);
+		BreakpointRequest deleted = fManager.createBreakpointRequest(location);
+		fManager.deleteEventRequest(deleted);
+		bp2.enable();
+
+		assertTrue("2", ((EventRequestManagerImpl) fManager).enableEventRequests(List.of(bp1, bp2, deleted)).isEmpty());
+		assertTrue("3", bp1.isEnabled());
+		assertTrue("4", bp2.isEnabled());
+		assertFalse("5", deleted.isEnabled());
+
+		fManager.deleteEventRequest(bp1);
+		fManager.deleteEventRequest(bp2);
+		assertEquals("6", 0, fManager.breakpointRequests().size());
+	}
 	/**
 	 * Test JDI createClassPrepareRequest(), classPrepareRequests()
 	 * and deleteEventRequest(EventRequest)
@@ -17,6 +17,7 @@ package org.eclipse.debug.jdi.tests;
 import java.util.Iterator;
 import java.util.List;
 
+import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.InterfaceType;
 import com.sun.jdi.Method;
@@ -82,6 +83,18 @@ public class InterfaceTypeTest extends AbstractJDITest {
 		ClassType implementor = (ClassType) implementors.get(0);
 		assertEquals("2", getMainClass(), implementor);
 	}
+	/**
+	 * Test that locationsOfLine(int) answers no locations, also from the index
+	 * of the lines, for a type without methods having code.
+	 */
+	public void testJDILocationsOfLineWithoutCode() {
+		try {
+			assertTrue("1", fType.locationsOfLine(1).isEmpty());
+			assertTrue("2", fType.locationsOfLine(1).isEmpty());
+		} catch (AbsentInformationException e) {
+			fail("3");
+		}
+	}
 	/**
 	 * Test JDI subinterfaces().
 	 */
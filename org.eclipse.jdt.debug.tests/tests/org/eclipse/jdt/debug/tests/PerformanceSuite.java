@@ -21,6 +21,7 @@ import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
+import org.eclipse.jdt.debug.tests.performance.PerfEvaluationTests;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
 
@@ -49,6 +50,7 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfSteppingTests.class));
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
+        addTest(new TestSuite(PerfEvaluationTests.class));
         addTest(new TestSuite(BreakpointManagerPerfTests.class));
     }
 }
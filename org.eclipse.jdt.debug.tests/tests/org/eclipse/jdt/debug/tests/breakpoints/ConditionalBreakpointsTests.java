@@ -17,6 +17,7 @@ import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.internal.ui.views.console.ProcessConsole;
+import org.eclipse.jdt.debug.core.IJavaBreakpointStatistics;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
@@ -63,6 +64,43 @@ public class ConditionalBreakpointsTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests the statistics of a conditional breakpoint suspending on its fourth event
+	 */
+	public void testConditionalBreakpointStatistics() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, "i == 3", true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaBreakpointStatistics statistics = bp.getStatistics();
+			assertEquals("wrong event count", 4, statistics.getEventCount());
+			assertEquals("wrong suspend count", 1, statistics.getSuspendCount());
+			assertEquals("wrong resume count", 3, statistics.getResumeCount());
+			assertEquals("wrong condition evaluation count", 4, statistics.getConditionEvaluationCount());
+			assertTrue("condition evaluation time should be recorded", statistics.getConditionEvaluationTime() > 0);
+			long votes = 0;
+			for (long count : statistics.getVoteLatencies()) {
+				votes += count;
+			}
+			assertEquals("every vote should be in the histogram", 4, votes);
+			long resumes = 0;
+			for (long count : statistics.getResumeLatencies()) {
+				resumes += count;
+			}
+			assertEquals("every resume should be in the histogram", 3, resumes);
+
+			statistics.reset();
+			assertEquals("statistics should be reset", 0, statistics.getEventCount());
+			bp.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests a static method call that has a conditional breakpoint on it
 	 */
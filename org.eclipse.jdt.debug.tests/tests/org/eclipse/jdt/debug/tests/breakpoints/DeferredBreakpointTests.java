@@ -25,8 +25,11 @@ import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.ui.AbstractDebugUiTests;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.ui.IEditorPart;
 
+import com.sun.jdi.request.EventRequestManager;
+
 /**
  * Tests deferred breakpoints.
  */
@@ -162,4 +165,30 @@ public class DeferredBreakpointTests extends AbstractDebugUiTests {
 			getBreakpointManager().setEnabled(true);
 		}
 	}
+
+	/**
+	 * Tests that breakpoints in the same type share the class prepare requests of the target
+	 */
+	public void testSharedClassPrepareRequests() throws Exception {
+		String typeName = "DropTests";
+		ILineBreakpoint bp1 = createLineBreakpoint(23, typeName);
+		ILineBreakpoint bp2 = createLineBreakpoint(27, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp1);
+			EventRequestManager manager = ((JDIDebugTarget) thread.getDebugTarget()).getEventRequestManager();
+			int count = manager.classPrepareRequests().size();
+			ILineBreakpoint bp3 = createLineBreakpoint(35, typeName);
+			assertEquals("A breakpoint in a type with breakpoints should not add class prepare requests", count, manager.classPrepareRequests().size());
+
+			thread = resumeToLineBreakpoint(thread, bp2);
+			thread = resumeToLineBreakpoint(thread, bp3);
+			removeAllBreakpoints();
+			assertEquals("Class prepare requests should be removed with the breakpoints", count - 2, manager.classPrepareRequests().size());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -13,13 +13,20 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import java.util.Arrays;
+
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.jdi.internal.request.EventRequestImpl;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaExceptionBreakpoint;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.request.ExceptionRequest;
 
 /**
  * Tests exception breakpoints.
@@ -215,6 +222,38 @@ public class ExceptionBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * tests that multiple exclusion filters are evaluated by the VM, so that excluded exceptions are not reported to the debugger before
+	 * the line after the excluded throw is reached
+	 */
+	public void testMultiExclusiveScopedExceptionNotReported() throws Exception {
+		String typeName = "ThrowsException";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("TestException", true, false);
+		ex.setExclusionFilters(new String[] {"ThrowsException2", "ThrowsException"});
+		IJavaLineBreakpoint control = createLineBreakpoint(24, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, control);
+			assertEquals("Excluded exception should not have been reported", 0, ((JavaExceptionBreakpoint) ex).getDiscardedEventCount());
+
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			ExceptionRequest request = null;
+			for (ExceptionRequest candidate : target.getVM().eventRequestManager().exceptionRequests()) {
+				if (candidate.exception() != null && "TestException".equals(candidate.exception().name())) {
+					request = candidate;
+				}
+			}
+			assertNotNull("Exception request not found", request);
+			assertEquals("Exclusion filters should be evaluated by the VM", Arrays.asList("ThrowsException2", "ThrowsException"), ((EventRequestImpl) request).classExclusionFilters());
+			ex.delete();
+			control.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * tests that a breakpoint is hit with multiple inclusion filters set
 	 */
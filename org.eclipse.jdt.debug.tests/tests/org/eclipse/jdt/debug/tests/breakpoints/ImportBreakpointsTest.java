@@ -17,7 +17,10 @@ package org.eclipse.jdt.debug.tests.breakpoints;
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
@@ -28,7 +31,9 @@ import org.eclipse.debug.internal.ui.views.breakpoints.WorkingSetCategory;
 import org.eclipse.debug.ui.actions.ExportBreakpointsOperation;
 import org.eclipse.debug.ui.actions.ImportBreakpointsOperation;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.testplugin.JavaTestPlugin;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpointBatchVerifier;
 import org.eclipse.ui.IWorkingSet;
 import org.eclipse.ui.IWorkingSetManager;
 
@@ -296,4 +301,35 @@ public class ImportBreakpointsTest extends AbstractBreakpointWorkingSetTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests verifying the locations of breakpoints of several compilation units at once
+	 *
+	 * @throws Exception catch all to be passed back to the framework
+	 */
+	public void testBatchVerification() throws Exception {
+		try {
+			ArrayList<IJavaBreakpoint> breakpoints = new ArrayList<>();
+			String typeName = "DropTests";
+			IJavaLineBreakpoint valid = createLineBreakpoint(27, typeName);
+			IJavaLineBreakpoint blank = createLineBreakpoint(25, typeName);
+			IJavaLineBreakpoint other = createLineBreakpoint(35, typeName);
+			IJavaLineBreakpoint end = createLineBreakpoint(52, "Breakpoints");
+			breakpoints.add(valid);
+			breakpoints.add(blank);
+			breakpoints.add(other);
+			breakpoints.add(createMethodBreakpoint(typeName, "method4", "()V", true, false));
+			breakpoints.add(end);
+			breakpoints.add(createExceptionBreakpoint("Exception", true, false));
+			Map<IBreakpoint, CoreException> failures = JavaBreakpointBatchVerifier.verify(breakpoints, new NullProgressMonitor());
+			assertEquals("no breakpoint should fail verification", Collections.emptyMap(), failures);
+			assertEquals("valid breakpoint should not move", 27, valid.getLineNumber());
+			assertEquals("breakpoint on a blank line should move to the next statement", 27, blank.getLineNumber());
+			assertEquals("valid breakpoint in another method should not move", 35, other.getLineNumber());
+			assertEquals("breakpoint at the end of a method should move to the next method", 55, end.getLineNumber());
+		}
+		finally {
+			removeAllBreakpoints();
+		}
+	}
 }
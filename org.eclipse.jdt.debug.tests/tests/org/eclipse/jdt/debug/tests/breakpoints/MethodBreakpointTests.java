@@ -18,6 +18,8 @@ import java.util.List;
 
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.model.IBreakpoint;
@@ -33,6 +35,7 @@ import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
 /**
@@ -78,6 +81,45 @@ public class MethodBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests entry and exit breakpoints installed as breakpoints at the locations of their methods
+	 */
+	public void testEntryAndExitBreakpointsAtLocations() throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_METHOD_BREAKPOINTS_AT_LOCATIONS, true);
+		String typeName = "DropTests";
+		List<IJavaMethodBreakpoint> bps = new ArrayList<>();
+		// method 4 - entry
+		bps.add(createMethodBreakpoint(typeName, "method4", "()V", true, false));
+		// method 1 - exit
+		bps.add(createMethodBreakpoint(typeName, "method1", "()V", false, true));
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IBreakpoint hit = getBreakpoint(thread);
+			assertNotNull("suspended, but not by breakpoint", hit);
+			assertEquals("should hit entry breakpoint first", bps.get(0),hit);
+			assertTrue("should be an entry suspend", bps.get(0).isEntrySuspend(thread.getDebugTarget()));
+
+			// onto the next breakpoint
+			thread = resume(thread);
+
+			hit = getBreakpoint(thread);
+			assertNotNull("suspended, but not by breakpoint", hit);
+			assertEquals("should hit exit breakpoint second", bps.get(1), hit);
+			assertFalse("should be an exit suspend", bps.get(1).isEntrySuspend(thread.getDebugTarget()));
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("should suspend in method1", "method1", frame.getMethodName());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			prefs.remove(JDIDebugPlugin.PREF_METHOD_BREAKPOINTS_AT_LOCATIONS);
+		}
+	}
+
 	/**
 	 * Tests the 'stop in main' launching preference
 	 * {@link IJavaLaunchConfigurationConstants#ATTR_STOP_IN_MAIN}
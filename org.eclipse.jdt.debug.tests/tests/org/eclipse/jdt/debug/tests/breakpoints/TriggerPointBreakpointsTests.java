@@ -15,10 +15,12 @@ package org.eclipse.jdt.debug.tests.breakpoints;
 
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaPatternBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
 /**
  * Tests trigger point of breakpoints
@@ -69,4 +71,57 @@ public class TriggerPointBreakpointsTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that breakpoints do not suspend the target before the trigger point is hit, and do after
+	 */
+	public void testBreakpointsDisabledUntilTriggerPoint() throws Exception {
+		String typeName = "TriggerPoint_01";
+		IJavaLineBreakpoint bp1 = createLineBreakpoint(28, typeName);
+		IJavaLineBreakpoint bp2 = createLineBreakpoint(33, typeName);
+		bp2.setTriggerPoint(true);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp2);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			assertEquals("the breakpoint before the trigger point should not suspend the thread", target.getBreakpointHitCount(), target.getBreakpointEventCount());
+
+			thread = resumeToLineBreakpoint(thread, bp1);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+			int iValue = ((IJavaPrimitiveValue) var.getValue()).getIntValue();
+			assertEquals("value of 'i' should be '2', but was " + iValue, 2, iValue);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a pattern breakpoint is installed in a class loaded while the trigger point is waiting to be hit, and suspends after it is hit
+	 */
+	public void testPatternBreakpointInstalledBeforeTriggerPoint() throws Exception {
+		String typeName = "TriggerPoint_01";
+		IJavaPatternBreakpoint bp1 = createPatternBreakpoint(28, typeName + ".java", typeName);
+		IJavaLineBreakpoint bp2 = createLineBreakpoint(33, typeName);
+		bp2.setTriggerPoint(true);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp2);
+			assertTrue("the pattern breakpoint should be installed in the class loaded after the trigger point was set", bp1.isInstalled());
+
+			thread = resumeToLineBreakpoint(thread, bp1);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+			int iValue = ((IJavaPrimitiveValue) var.getValue()).getIntValue();
+			assertEquals("value of 'i' should be '2', but was " + iValue, 2, iValue);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -13,16 +13,21 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaWatchpoint;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaWatchpoint;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
 /**
  * Tests watchpoint, both modification and access watchpoints
@@ -324,4 +329,89 @@ public class WatchpointTests extends AbstractDebugTest {
 			getBreakpointManager().setEnabled(true);
 		}
 	}
+
+	/**
+	 * Tests that a modification watchpoint suspends for a value passing its value filter
+	 */
+	public void testValueFilterMatch() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.Watchpoint";
+
+		JavaWatchpoint wp = (JavaWatchpoint) createWatchpoint(typeName, "list", false, true);
+		wp.setValueFilter("!= null");
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			assertEquals("Should be on line 30", 30, thread.getTopStackFrame().getLineNumber());
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a modification watchpoint suspending the VM with a value filter suspends all threads for a value passing the filter, and that
+	 * the program runs to completion once resumed
+	 */
+	public void testValueFilterMatchSuspendVM() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.Watchpoint";
+
+		JavaWatchpoint wp = (JavaWatchpoint) createWatchpoint(typeName, "list", false, true);
+		wp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+		wp.setValueFilter("!= null");
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			assertEquals("Should be on line 30", 30, thread.getTopStackFrame().getLineNumber());
+			assertTrue("the VM should be suspended", thread.getDebugTarget().isSuspended());
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a modification watchpoint resumes a value not passing its value filter without suspending the thread
+	 */
+	public void testValueFilterNoMatch() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.Watchpoint";
+
+		JavaWatchpoint wp = (JavaWatchpoint) createWatchpoint(typeName, "list", false, true);
+		wp.setValueFilter("== null");
+		IJavaLineBreakpoint bp = createLineBreakpoint(31, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			assertEquals("Should be on line 31", 31, thread.getTopStackFrame().getLineNumber());
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			assertEquals("the filtered modification should not suspend the thread", target.getBreakpointEventCount() - 1, target.getBreakpointHitCount());
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an invalid value filter is rejected
+	 */
+	public void testInvalidValueFilter() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.Watchpoint";
+
+		JavaWatchpoint wp = (JavaWatchpoint) createWatchpoint(typeName, "list", false, true);
+		try {
+			wp.setValueFilter("> null");
+			fail("The filter should be rejected");
+		} catch (DebugException e) {
+			assertNull("The filter should not be set", wp.getValueFilter());
+		} finally {
+			removeAllBreakpoints();
+		}
+	}
 }
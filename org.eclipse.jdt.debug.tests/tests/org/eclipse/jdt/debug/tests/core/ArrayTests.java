@@ -15,8 +15,10 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertNotEquals;
 
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
@@ -25,6 +27,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 
 /**
@@ -103,6 +106,107 @@ public class ArrayTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the entries of a range share the values fetched for the range and see modifications
+	 */
+	public void testGetVariableRangeFetchedOnce() throws Exception {
+		String typeName = "ArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(22, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			array.getLength();
+			int requestCount = MirrorImpl.getRequestCount();
+			IVariable[] variables = array.getVariables(0, 100);
+			for (int i = 0; i < 100; i++) {
+				assertEquals("Wrong value", target.newValue(i), variables[i].getValue());
+			}
+			assertEquals("The range should be fetched with one request", requestCount + 1, MirrorImpl.getRequestCount());
+
+			array.setValue(5, target.newValue(-5));
+			assertEquals("The entry should see the new value", target.newValue(-5), array.getVariables(0, 100)[5].getValue());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a range of array entries fetched before an implicit evaluation
+	 * is not reused after the evaluation changed the array
+	 */
+	public void testGetVariableRangeAfterEvaluation() throws Exception {
+		String typeName = "ArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(22, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			assertEquals("Wrong value", target.newValue(7), array.getVariables(0, 100)[7].getValue());
+
+			IEvaluationResult result = evaluate("array[7] = -7;", thread);
+			assertNotNull("There should be a result", result);
+			assertFalse("The evaluation should not fail", result.hasErrors());
+			assertEquals("The entry should see the new value", target.newValue(-7), array.getVariables(0, 100)[7].getValue());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the values of an array of a primitive type are returned in a primitive array
+	 */
+	public void testGetPrimitiveValues() throws Exception {
+		String typeName = "ArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(22, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			Object values = array.getPrimitiveValues(0, 100);
+			assertTrue("Should be an int array", values instanceof int[]);
+			int[] ints = (int[]) values;
+			assertEquals("Wrong number of values", 100, ints.length);
+			for (int i = 0; i < 100; i++) {
+				assertEquals("Wrong value", i, ints[i]);
+			}
+			ints = (int[]) array.getPrimitiveValues(40, 3);
+			assertEquals("Wrong number of values", 3, ints.length);
+			assertEquals("Wrong value", 42, ints[2]);
+			try {
+				array.getPrimitiveValues(99, 2);
+				fail("Range should be out of bounds");
+			} catch (DebugException e) {
+				// expected
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testSetValueRange() throws Exception {
 		String typeName = "ByteArrayTests";
 		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
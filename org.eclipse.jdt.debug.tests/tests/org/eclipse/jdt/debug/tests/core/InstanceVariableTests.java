@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
@@ -25,7 +26,9 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
 public class InstanceVariableTests extends AbstractDebugTest {
 
@@ -226,4 +229,157 @@ public class InstanceVariableTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that what the labels of values display is fetched together
+	 */
+	public void testLabelsPrefetchedTogether() throws Exception {
+		String typeName = "InstanceVariablesTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable ivt = findVariable(frame, "ivt");
+			assertNotNull("Could not find variable 'ivt'", ivt);
+			IJavaObject object = (IJavaObject)ivt.getValue();
+			List<IJavaValue> values = new ArrayList<>();
+			for (IVariable variable : object.getVariables()) {
+				values.add((IJavaValue) variable.getValue());
+			}
+
+			JDIValue.prefetchLabels(values, 0);
+			int requestCount = MirrorImpl.getRequestCount();
+			for (IJavaValue value : values) {
+				assertNotNull(value.getReferenceTypeName());
+				assertNotNull(value.getValueString());
+			}
+			assertEquals("The labels should not need more requests", requestCount, MirrorImpl.getRequestCount());
+			assertEquals("Wrong string value", "redefined public", object.getField("pubStr", false).getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that only the first characters of a string are retrieved when capped
+	 */
+	public void testCappedStringValue() throws Exception {
+		String typeName = "InstanceVariablesTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable ivt = findVariable(frame, "ivt");
+			assertNotNull("Could not find variable 'ivt'", ivt);
+			IJavaObject object = (IJavaObject)ivt.getValue();
+			JDIValue protStr = (JDIValue) object.getField("protStr", false).getValue();
+			assertEquals("Wrong first characters", "rede", protStr.getValueString(4));
+			assertEquals("Wrong longer first characters", "redefi", protStr.getValueString(6));
+			assertEquals("Short strings should be entire", "redefined protected", protStr.getValueString(100));
+			int requestCount = MirrorImpl.getRequestCount();
+			assertEquals("Wrong value", "redefined protected", protStr.getValueString());
+			assertEquals("The entire value should be cached", requestCount, MirrorImpl.getRequestCount());
+
+			JDIValue privStr = (JDIValue) object.getField("privStr", false).getValue();
+			JDIValue defStr = (JDIValue) object.getField("defStr", false).getValue();
+			List<IJavaValue> values = new ArrayList<>();
+			values.add(privStr);
+			values.add(defStr);
+			JDIValue.prefetchLabels(values, 3);
+			requestCount = MirrorImpl.getRequestCount();
+			assertEquals("Wrong prefetched characters", "pri", privStr.getValueString(3));
+			assertEquals("Wrong prefetched characters", "red", defStr.getValueString(3));
+			assertEquals("The first characters should be cached", requestCount, MirrorImpl.getRequestCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the values of the fields of an object are fetched together and see modifications
+	 */
+	public void testFieldValuesFetchedTogether() throws Exception {
+		String typeName = "InstanceVariablesTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable ivt = findVariable(frame, "ivt");
+			assertNotNull("Could not find variable 'ivt'", ivt);
+			IJavaObject object = (IJavaObject)ivt.getValue();
+			IVariable[] variables = object.getVariables();
+			assertEquals("Should be 10 fields", 10, variables.length);
+
+			int requestCount = MirrorImpl.getRequestCount();
+			for (IVariable variable : variables) {
+				assertNotNull(variable.getValue());
+			}
+			assertTrue("The field values should be fetched together", MirrorImpl.getRequestCount() - requestCount <= 2);
+
+			IJavaVariable pubStr = object.getField("pubStr", false);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			IVariable pubStrChild = null;
+			for (IVariable variable : variables) {
+				if (variable.equals(pubStr)) {
+					pubStrChild = variable;
+				}
+			}
+			assertNotNull("Could not find child 'pubStr'", pubStrChild);
+			pubStrChild.setValue(target.newValue("changed"));
+			assertEquals("value should be 'changed'", "changed", pubStrChild.getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that field values fetched before an implicit evaluation are not reused after the evaluation changed a field
+	 */
+	public void testFieldValuesAfterEvaluation() throws Exception {
+		String typeName = "InstanceVariablesTests";
+
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable ivt = findVariable(frame, "ivt");
+			assertNotNull("Could not find variable 'ivt'", ivt);
+			IJavaObject object = (IJavaObject)ivt.getValue();
+			IJavaVariable pubStr = object.getField("pubStr", false);
+			IVariable pubStrChild = null;
+			for (IVariable variable : object.getVariables()) {
+				if (variable.equals(pubStr)) {
+					pubStrChild = variable;
+				}
+			}
+			assertNotNull("Could not find child 'pubStr'", pubStrChild);
+			assertEquals("value should be 'redefined public'", "redefined public", pubStrChild.getValue().getValueString());
+
+			IEvaluationResult result = evaluate("((IVTSubclass) ivt).pubStr = \"evaluated\";", thread);
+			assertNotNull("There should be a result", result);
+			assertFalse("The evaluation should not fail", result.hasErrors());
+			assertEquals("value should be 'evaluated'", "evaluated", pubStrChild.getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -13,9 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.eval;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.model.IValue;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationProfile;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
 
 /**
  * Tests that evaluations in non-generified source
@@ -445,6 +458,97 @@ public class GeneralEvalTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that an evaluation performed with {@link IAstEvaluationEngine#PROFILE_EVALUATION} reports the requests and invocations of its
+	 * instructions.
+	 */
+	public void testEvaluationProfile() throws Exception {
+		IJavaThread thread = null;
+		IAstEvaluationEngine engine = null;
+		try {
+			String typename = "bug329294";
+			createLineBreakpoint(26, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+
+			IEvaluationResult[] results = new IEvaluationResult[1];
+			engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			engine.evaluate("fInner1.toString().length()", (IJavaStackFrame) thread.getTopStackFrame(), result -> results[0] = result, DebugEvent.EVALUATION_IMPLICIT
+					| IAstEvaluationEngine.PROFILE_EVALUATION, false);
+			long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+			while (results[0] == null && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100);
+			}
+			assertNotNull("The evaluation should have a result", results[0]);
+			assertFalse("The evaluation should not have errors", results[0].hasErrors());
+
+			IEvaluationProfile profile = results[0].getProfile();
+			assertNotNull("The evaluation should have a profile", profile);
+			assertTrue("The evaluation should have sent requests", profile.getRequestCount() > 0);
+			assertEquals("The evaluation should have invoked toString() and length()", 2, profile.getInvocationCount());
+			int requests = 0;
+			int invocations = 0;
+			for (int i = 0; i < profile.getInstructionCount(); i++) {
+				assertNotNull("Instructions should be described", profile.getInstruction(i));
+				requests += profile.getRequestCount(i);
+				invocations += profile.getInvocationCount(i);
+			}
+			assertTrue("The instructions should not have sent more requests than the evaluation", requests <= profile.getRequestCount());
+			assertEquals("The instructions should have performed the invocations", profile.getInvocationCount(), invocations);
+		}
+		finally {
+			if (engine != null) {
+				engine.dispose();
+			}
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	/**
+	 * Tests that an evaluation exceeding its deadline is terminated and that the thread can evaluate again afterwards.
+	 */
+	public void testEvaluationDeadline() throws Exception {
+		IJavaThread thread = null;
+		IAstEvaluationEngine engine = null;
+		try {
+			String typename = "bug329294";
+			createLineBreakpoint(26, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+
+			engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			ICompiledExpression expression = engine.getCompiledExpression("int i = 0; while (i >= 0) { i = i * 2; } return i;", frame);
+			assertFalse("The snippet should compile", expression.hasErrors());
+			CompletableFuture<IEvaluationResult> future = engine.evaluateExpression(expression, frame, DebugEvent.EVALUATION_IMPLICIT, false, 500);
+			try {
+				future.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+				fail("The evaluation should not complete");
+			} catch (ExecutionException e) {
+				assertTrue("The evaluation should time out", e.getCause() instanceof TimeoutException);
+			}
+
+			long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+			while (thread.isPerformingEvaluation() && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100);
+			}
+			assertFalse("The evaluation should have been terminated", thread.isPerformingEvaluation());
+
+			expression = engine.getCompiledExpression("fInner1.innerBool", (IJavaStackFrame) thread.getTopStackFrame());
+			IEvaluationResult result = engine.evaluateExpression(expression, (IJavaStackFrame) thread.getTopStackFrame(), DebugEvent.EVALUATION_IMPLICIT, false, 0).get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+			assertFalse("The evaluation should not have errors", result.hasErrors());
+			assertEquals("The evaluation should have a result", "false", result.getValue().getValueString());
+		}
+		finally {
+			if (engine != null) {
+				engine.dispose();
+			}
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
 	/**
 	 * https://bugs.eclipse.org/bugs/show_bug.cgi?id=508105
 	 */
@@ -482,6 +586,32 @@ public class GeneralEvalTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that field values read repeatedly in one evaluation are consistent, and that values are retrieved again after the evaluation
+	 * modifies them.
+	 */
+	public void testRepeatedFieldAccess() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "bug329294";
+			createLineBreakpoint(26, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+
+			String snippet = "fInner1.innerBool == fInner1.innerBool && this.fInner1 == fInner1";
+			IValue value = doEval(thread, snippet);
+			assertTrue("The result of '" + snippet + "' should be true", Boolean.parseBoolean(value.getValueString()));
+
+			snippet = "boolean before = fInner1.innerBool; fInner1.innerBool = !fInner1.innerBool; return before != fInner1.innerBool";
+			value = doEval(thread, snippet);
+			assertTrue("The result of '" + snippet + "' should be true", Boolean.parseBoolean(value.getValueString()));
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
 	/**
 	 * https://bugs.eclipse.org/bugs/show_bug.cgi?id=508105
 	 */
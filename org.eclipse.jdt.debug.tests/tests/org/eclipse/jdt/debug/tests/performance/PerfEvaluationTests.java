@@ -0,0 +1,75 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests performance of compiling evaluations.
+ */
+public class PerfEvaluationTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Constructor
+	 */
+	public PerfEvaluationTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the performance of compiling different snippets in a frame of a large type, as done by hovers and watch expressions.
+	 */
+	public void testCompileInLargeType() throws Exception {
+		tagAsSummary("Compile snippets in a large type", Dimension.ELAPSED_PROCESS);
+		removeAllBreakpoints();
+		String typeName = "LargeSourceFile";
+		createLineBreakpoint(521, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName, false);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("Missing top stack frame", frame);
+			IAstEvaluationEngine engine = JDIDebugPlugin.getDefault().getEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+
+			// warm up
+			for (int i = 0; i < 20; i++) {
+				ICompiledExpression expression = engine.getCompiledExpression("this.hashCode() + " + i, frame);
+				assertFalse("Snippet should compile", expression.hasErrors());
+			}
+
+			// test
+			for (int i = 0; i < 100; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					engine.getCompiledExpression("this.toString().length() + " + (i * 10 + j), frame);
+				}
+				stopMeasuring();
+			}
+
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+}
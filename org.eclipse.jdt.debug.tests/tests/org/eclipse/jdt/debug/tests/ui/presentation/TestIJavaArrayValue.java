@@ -111,4 +111,12 @@ public class TestIJavaArrayValue extends TestIJavaObjectValue implements IJavaAr
 	@Override
 	public void setValues(int offset, int length, IJavaValue[] values, int startOffset) throws DebugException {
 	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.debug.core.IJavaArray#getPrimitiveValues(int, int)
+	 */
+	@Override
+	public Object getPrimitiveValues(int offset, int length) throws DebugException {
+		return null;
+	}
 }
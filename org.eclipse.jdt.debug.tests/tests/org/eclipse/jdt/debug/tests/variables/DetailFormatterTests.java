@@ -357,4 +357,46 @@ public class DetailFormatterTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that the detail of an object is computed once while the thread stays suspended
+	 */
+	public void testDetailIsCachedWhileSuspended() throws Exception {
+		IJavaThread thread = null;
+		DetailFormatter formatter = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			createLineBreakpoint(10, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			formatter = new DetailFormatter("java.util.HashMap", "return toString();", true);
+			jdfm.setAssociatedDetailFormatter(formatter);
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			long hits = jdfm.getDetailCacheHits();
+			long misses = jdfm.getDetailCacheMisses();
+			jdfm.computeValueDetail((IJavaValue) var.getValue(), thread, fListener);
+			long timeout = System.currentTimeMillis() + 5000;
+			while (fListener.value == null && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100);
+			}
+			assertNotNull("The computed value of the detail should not be null", fListener.result);
+			assertEquals("The first detail should not be cached", misses + 1, jdfm.getDetailCacheMisses());
+			String detail = fListener.result;
+			fListener.reset();
+			jdfm.computeValueDetail((IJavaValue) var.getValue(), thread, fListener);
+			timeout = System.currentTimeMillis() + 5000;
+			while (fListener.value == null && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100);
+			}
+			assertEquals("The second detail should be cached", hits + 1, jdfm.getDetailCacheHits());
+			assertEquals("The cached detail should be the computed one", detail, fListener.result);
+		}
+		finally {
+			jdfm.removeAssociatedDetailFormatter(formatter);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
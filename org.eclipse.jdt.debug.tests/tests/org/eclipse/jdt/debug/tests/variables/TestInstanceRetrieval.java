@@ -14,14 +14,22 @@
 package org.eclipse.jdt.debug.tests.variables;
 
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHeapHistogram;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIPlaceholderValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 
 /**
  * Tests for instance retrieval
@@ -95,4 +103,84 @@ public class TestInstanceRetrieval extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests the heap histogram and the difference between two suspends.
+	 */
+	public void testHeapHistogram() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		IJavaLineBreakpoint bp1 = createLineBreakpoint(64, typeName);
+		IJavaLineBreakpoint bp2 = createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp1);
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaHeapHistogram before = target.getHeapHistogram();
+				assertNotNull("Missing histogram", before);
+				assertEquals("Wrong number of instances", 13, getCount(before, "java6.AllInstancesTests$RefObject"));
+				for (int i = 1; i < before.size(); i++) {
+					assertTrue("Entries should be sorted by decreasing count", before.getCount(i - 1) >= before.getCount(i));
+				}
+
+				thread = resumeToLineBreakpoint(thread, bp2);
+				IJavaHeapHistogram after = target.getHeapHistogram();
+				IJavaHeapHistogram delta = after.subtract(before);
+				assertEquals("Wrong number of new instances", 1002, getCount(delta, "java6.AllInstancesTests$RefClass"));
+				for (int i = 0; i < delta.size(); i++) {
+					assertTrue("Unchanged types should be omitted", delta.getCount(i) != 0);
+				}
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private long getCount(IJavaHeapHistogram histogram, String typeName) throws Exception {
+		for (int i = 0; i < histogram.size(); i++) {
+			if (histogram.getTypeName(i).equals(typeName)) {
+				assertEquals("Wrong type", typeName, histogram.getType(i).getName());
+				return histogram.getCount(i);
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Tests that a partition of the all instances value holds the instances and the placeholder past the preference.
+	 */
+	public void testAllInstancesValuePartition() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+
+				IJavaVariable variable = frame.findVariable("rc");
+				assertNotNull("Missing variable 'rc'", variable);
+
+				IJavaObject object = (IJavaObject) variable.getValue();
+				JDIReferenceType refType = (JDIReferenceType) object.getJavaType();
+				int max = HeapWalkingManager.getDefault().getAllInstancesMaxCount();
+				JDIAllInstancesValue value = new JDIAllInstancesValue(target, refType);
+
+				assertEquals("Wrong number of entries", max + 1, value.getSize());
+				IVariable[] variables = value.getVariables(max - 10, 10);
+				assertEquals("Wrong number of variables", 10, variables.length);
+				for (int i = 0; i < variables.length; i++) {
+					assertEquals("Instance is of unexpected type", refType, ((IJavaValue) variables[i].getValue()).getJavaType());
+				}
+				assertSame("Instance values should be created once", value.getValue(max - 1), variables[9].getValue());
+				assertTrue("Last entry should be a placeholder", value.getValue(max) instanceof JDIPlaceholderValue);
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 }
@@ -13,17 +13,35 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.variables;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.LogicalArrayStructureValue;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.LogicalObjectStructureValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
+
+import com.sun.jdi.ReferenceType;
 
 /**
  * Tests for logical structures
@@ -149,4 +167,122 @@ public class TestLogicalStructures extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that compiling the same snippet twice in the context of the same type reuses the compiled expression.
+	 */
+	public void testCompiledExpressionIsCached() throws Exception {
+		String typeName = "LogicalStructures";
+		createLineBreakpoint(34, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			IJavaVariable variable = frame.findVariable("map");
+			assertNotNull("Missing variable 'map'", variable);
+
+			IJavaReferenceType type = (IJavaReferenceType) ((IJavaObject) variable.getValue()).getJavaType();
+			IAstEvaluationEngine engine = JDIDebugPlugin.getDefault().getEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			String snippet = "return entrySet().toArray();";
+			ICompiledExpression first = engine.getCompiledExpression(snippet, type);
+			assertFalse("Snippet should compile", first.hasErrors());
+			assertNotSame("Expression in use should not be handed out again", first, engine.getCompiledExpression(snippet, type));
+			IEvaluationResult result = engine.evaluateExpression(first, (IJavaObject) variable.getValue(), thread, DebugEvent.EVALUATION_IMPLICIT, false, 0).get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+			assertFalse("Evaluation should succeed", result.hasErrors());
+			assertSame("Compiled expression should be cached after its evaluation", first, engine.getCompiledExpression(snippet, type));
+			assertNotSame("Different snippet should not be served from the cache", first, engine.getCompiledExpression("return keySet().toArray();", type));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the logical structures applicable to a type are resolved once per target.
+	 */
+	public void testStructureTypesAreCached() throws Exception {
+		String typeName = "LogicalStructures";
+		createLineBreakpoint(34, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			IJavaVariable variable = frame.findVariable("map");
+			assertNotNull("Missing variable 'map'", variable);
+
+			IValue value = variable.getValue();
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			ReferenceType type = (ReferenceType) ((JDIReferenceType) ((IJavaObject) value).getJavaType()).getUnderlyingType();
+			ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(value);
+			assertEquals("Should be one logical structure type", 1, types.length);
+			Map<ILogicalStructureType, IJavaReferenceType> cached = target.getLogicalStructureTypes(type);
+			assertNotNull("Structures of the type should be cached", cached);
+			assertEquals("Wrong structure type", "java.util.Map", cached.get(types[0]).getName());
+			assertEquals("Cached structures should be offered", 1, DebugPlugin.getLogicalStructureTypes(value).length);
+			assertSame("Structures should be resolved once", cached, target.getLogicalStructureTypes(type));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the logical structures of JDK collections are read from their fields, without evaluating the snippets.
+	 */
+	public void testCollectionStructuresReadFromFields() throws Exception {
+		String typeName = "LogicalStructures";
+		createLineBreakpoint(34, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			IValue list = frame.findVariable("list").getValue();
+			IValue logicalList = DebugPlugin.getLogicalStructureTypes(list)[0].getLogicalStructure(list);
+			assertTrue("List should be read from its fields", logicalList instanceof LogicalArrayStructureValue);
+			IJavaArray array = (IJavaArray) logicalList;
+			assertEquals("Logical value should be an array", "java.lang.Object[]", array.getJavaType().getName());
+			assertEquals("Should be two elements in the structure", 2, array.getLength());
+			assertEquals("Wrong first element", "three", array.getValue(0).getValueString());
+			assertEquals("Wrong second element", "four", array.getValue(1).getValueString());
+			assertEquals("Logical array should have no unique id", -1L, array.getUniqueId());
+			assertNull("Logical array should have no fields", array.getField("size", false));
+			try {
+				array.setValue(0, array.getValue(1));
+				fail("Logical array should not be modifiable");
+			} catch (DebugException e) {
+				// expected
+			}
+
+			IValue map = frame.findVariable("map").getValue();
+			IValue logicalMap = DebugPlugin.getLogicalStructureTypes(map)[0].getLogicalStructure(map);
+			assertTrue("Map should be read from its fields", logicalMap instanceof LogicalArrayStructureValue);
+			array = (IJavaArray) logicalMap;
+			assertEquals("Should be two elements in the structure", 2, array.getLength());
+			int sum = 0;
+			for (IJavaValue entry : array.getValues()) {
+				IValue logicalEntry = DebugPlugin.getLogicalStructureTypes(entry)[0].getLogicalStructure(entry);
+				assertTrue("Entry should be read from its fields", logicalEntry instanceof LogicalObjectStructureValue);
+				IVariable[] children = logicalEntry.getVariables();
+				assertEquals("First entry should be key", "key", children[0].getName());
+				assertEquals("Second entry should be value", "value", children[1].getName());
+				sum += Integer.parseInt(((IJavaObject) children[1].getValue()).getField("value", false).getValue().getValueString());
+			}
+			assertEquals("Wrong values of the entries", 3, sum);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
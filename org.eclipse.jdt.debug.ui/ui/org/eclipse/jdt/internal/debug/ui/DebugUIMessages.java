@@ -91,6 +91,7 @@ public class DebugUIMessages extends NLS {
 
 	public static String JavaDebugPreferencePage_only_include_exported_entries;
 	public static String JavaDebugPreferencePage_filterUnrelatedBreakpoints;
+	public static String JavaDebugPreferencePage_methodBreakpointsAtLocations;
 	public static String JavaDebugPreferencePage_promptWhenDeletingCondidtionalBreakpoint;
 
 
@@ -77,6 +77,7 @@ import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListEntryVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.SuspendOnUncaughtExceptionListener;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaContendedMonitor;
@@ -474,8 +475,8 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 	 */
 	public String getValueText(IJavaValue value) throws DebugException {
 		String refTypeName= value.getReferenceTypeName();
-		String valueString= value.getValueString();
 		boolean isString= refTypeName.equals(fgStringName);
+		String valueString= isString ? getStringValueText(value) : value.getValueString();
 		IJavaType type= value.getJavaType();
 		String signature= null;
 		if (type != null) {
@@ -603,6 +604,35 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 		return false;
 	}
 
+	/**
+	 * Returns the number of characters of strings to retrieve for their
+	 * labels: one more than the maximum detail length, to know whether a string
+	 * is truncated, or 0 to retrieve entire strings.
+	 *
+	 * @return number of characters to retrieve or 0
+	 */
+	public static int getStringRetrievalLength() {
+		int maxLength= DebugUITools.getPreferenceStore().getInt(IDebugUIConstants.PREF_MAX_DETAIL_LENGTH);
+		return maxLength > 0 ? maxLength + 1 : 0;
+	}
+
+	/**
+	 * Returns the characters of a string value, truncated to the maximum detail
+	 * length, so that huge strings are not transferred entirely from the
+	 * target.
+	 */
+	private String getStringValueText(IJavaValue value) throws DebugException {
+		int length= getStringRetrievalLength();
+		if (length == 0 || !(value instanceof JDIValue)) {
+			return value.getValueString();
+		}
+		String valueString= ((JDIValue) value).getValueString(length);
+		if (valueString != null && valueString.length() == length) {
+			return valueString.substring(0, length - 1) + "..."; //$NON-NLS-1$
+		}
+		return valueString;
+	}
+
 	/**
 	 * Returns whether the image registry's have been retrieved.
 	 *
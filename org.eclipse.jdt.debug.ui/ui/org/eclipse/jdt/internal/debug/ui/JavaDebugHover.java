@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 import org.eclipse.core.runtime.CoreException;
@@ -61,7 +62,7 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
-import org.eclipse.jdt.debug.eval.IEvaluationListener;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIPlaceholderVariable;
@@ -84,6 +85,11 @@ import org.eclipse.ui.IEditorPart;
 public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension, ITextHoverExtension2 {
 
 	private static final String THIS = "this"; //$NON-NLS-1$
+
+	/**
+	 * Time in milliseconds after which the evaluation of a qualified name for a hover is abandoned
+	 */
+	private static final long EVALUATION_TIMEOUT = 5000;
 	private IEditorPart fEditor;
 
 	/* (non-Javadoc)
@@ -560,37 +566,28 @@ public class JavaDebugHover implements IJavaEditorTextHover, ITextHoverExtension
 
 		final String snippet = snippetBuilder.toString();
 
-		class Evaluator implements IEvaluationListener {
-			private final CompletableFuture<IEvaluationResult> result = new CompletableFuture<>();
-
-			@Override
-			public void evaluationComplete(IEvaluationResult result) {
-				this.result.complete(result);
-			}
-
-			public void run() throws DebugException {
-				IAstEvaluationEngine engine = JDIDebugPlugin.getDefault().getEvaluationEngine(project, (IJavaDebugTarget) frame.getDebugTarget());
-				engine.evaluate(snippet, findFirstFrameForVariable(frame, framePredicate), this, DebugEvent.EVALUATION_IMPLICIT, false);
-			}
-
-			public Optional<IEvaluationResult> getResult() {
-				try {
-					return Optional.ofNullable(result.get());
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-				} catch (ExecutionException e) {
-					JDIDebugUIPlugin.log(e);
-				}
-				return Optional.empty();
-			}
-		}
-		Evaluator evaluator = new Evaluator();
+		CompletableFuture<IEvaluationResult> result;
 		try {
-			evaluator.run();
+			IAstEvaluationEngine engine = JDIDebugPlugin.getDefault().getEvaluationEngine(project, (IJavaDebugTarget) frame.getDebugTarget());
+			IJavaStackFrame evaluationFrame = findFirstFrameForVariable(frame, framePredicate);
+			ICompiledExpression expression = engine.getCompiledExpression(snippet, evaluationFrame);
+			result = engine.evaluateExpression(expression, evaluationFrame, DebugEvent.EVALUATION_IMPLICIT, false, EVALUATION_TIMEOUT);
 		} catch (DebugException e) {
 			JDIDebugUIPlugin.log(e);
+			return null;
+		}
+		IEvaluationResult evaluationResult = null;
+		try {
+			evaluationResult = result.get();
+		} catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (!(e.getCause() instanceof TimeoutException)) {
+				JDIDebugUIPlugin.log(e);
+			}
 		}
-		return evaluator.getResult().flatMap(r -> Optional.ofNullable(r.getValue()))
+		return Optional.ofNullable(evaluationResult).flatMap(r -> Optional.ofNullable(r.getValue()))
 				.map(r -> new JDIPlaceholderVariable(snippet, r)).orElse(null);
 	}
 
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -26,6 +30,7 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchesListener;
+import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.ui.DebugUITools;
@@ -57,6 +62,7 @@ import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.osgi.util.NLS;
@@ -96,6 +102,29 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 */
 	private final HashMap<Key, Expression> fCacheMap;
 
+	/**
+	 * Maximum number of cached details.
+	 */
+	private static final int MAX_CACHED_DETAILS = 256;
+
+	/**
+	 * Cache of the details computed while threads are suspended, in access order.
+	 * Associate an object/formatter/suspend generation to the detail of the object.
+	 */
+	private final LinkedHashMap<DetailKey, String> fDetailCache;
+
+	/**
+	 * Suspend generation of each debug target, incremented each time a thread
+	 * of the target resumes, other than for an implicit evaluation.
+	 */
+	private final HashMap<IJavaDebugTarget, Long> fSuspendGenerations;
+
+	/**
+	 * Number of details served from and missing in the detail cache.
+	 */
+	private long fDetailCacheHits;
+	private long fDetailCacheMisses;
+
 	/**
 	 * JavaDetailFormattersManager constructor.
 	 */
@@ -106,6 +135,15 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		DebugPlugin.getDefault().addDebugEventListener(this);
 		DebugUITools.getPreferenceStore().addPropertyChangeListener(this);
 		fCacheMap= new HashMap<>();
+		fDetailCache= new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DetailKey, String> eldest) {
+				return size() > MAX_CACHED_DETAILS;
+			}
+		};
+		fSuspendGenerations= new HashMap<>();
 	}
 
 	/**
@@ -142,7 +180,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	}
 
 	private void resolveFormatter(final IJavaValue value, final IJavaThread thread, final IValueDetailListener listener) {
-		EvaluationListener evaluationListener= new EvaluationListener(value, thread, listener);
+		DetailKey key= null;
 		if (value instanceof IJavaObject) {
 			IJavaObject objectValue= (IJavaObject) value;
 			try {
@@ -157,9 +195,15 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				IJavaDebugTarget debugTarget= (IJavaDebugTarget) thread.getDebugTarget();
 				// get the compiled expression to use
 				Expression expression= getCompiledExpression(objectValue, debugTarget, thread);
+				key= getDetailKey(objectValue, debugTarget, thread, expression);
+				String detail= getCachedDetail(key);
+				if (detail != null) {
+					listener.detailComputed(value, detail);
+					return;
+				}
 				if (expression != null) {
 					expression.getEngine().evaluateExpression(expression.getExpression(), objectValue, thread,
-							evaluationListener, DebugEvent.EVALUATION_IMPLICIT, false);
+							new EvaluationListener(value, thread, listener, key), DebugEvent.EVALUATION_IMPLICIT, false);
 					return;
 				}
 			} catch (CoreException e) {
@@ -167,6 +211,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				return;
 			}
 		}
+		EvaluationListener evaluationListener= new EvaluationListener(value, thread, listener, key);
 		try {
 			evaluationListener.valueToString(value);
 		} catch (DebugException e) {
@@ -180,6 +225,84 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		}
 	}
 
+	/**
+	 * Returns the key of the detail of the given object in the detail cache, or
+	 * <code>null</code> if the detail of the object cannot be cached.
+	 *
+	 * @param objectValue the object
+	 * @param debugTarget the target of the object
+	 * @param thread the thread the detail is computed in
+	 * @param expression the formatter of the object or <code>null</code> if
+	 * <code>toString()</code> is used
+	 * @return key in the detail cache or <code>null</code>
+	 * @throws DebugException if the object cannot be identified
+	 */
+	private synchronized DetailKey getDetailKey(IJavaObject objectValue, IJavaDebugTarget debugTarget, IJavaThread thread, Expression expression) throws DebugException {
+		if (!thread.isSuspended() || objectValue.isNull()) {
+			return null;
+		}
+		long uniqueId= objectValue.getUniqueId();
+		if (uniqueId < 0) {
+			return null;
+		}
+		Long generation= fSuspendGenerations.get(debugTarget);
+		String snippet= expression == null ? null : expression.getExpression().getSnippet();
+		return new DetailKey(debugTarget, uniqueId, snippet, generation == null ? 0 : generation.longValue());
+	}
+
+	/**
+	 * Returns the cached detail associated with the given key, or <code>null</code>
+	 * if none.
+	 *
+	 * @param key key in the detail cache or <code>null</code>
+	 * @return cached detail or <code>null</code>
+	 */
+	private synchronized String getCachedDetail(DetailKey key) {
+		if (key == null) {
+			return null;
+		}
+		String detail= fDetailCache.get(key);
+		if (detail == null) {
+			fDetailCacheMisses++;
+		} else {
+			fDetailCacheHits++;
+		}
+		return detail;
+	}
+
+	/**
+	 * Caches the detail computed for the given key, unless a thread of the
+	 * target resumed since the computation started.
+	 *
+	 * @param key key in the detail cache
+	 * @param detail the computed detail
+	 */
+	private synchronized void cacheDetail(DetailKey key, String detail) {
+		Long generation= fSuspendGenerations.get(key.fDebugTarget);
+		if ((generation == null ? 0 : generation.longValue()) == key.fGeneration) {
+			fDetailCache.put(key, detail);
+		}
+	}
+
+	/**
+	 * Returns the number of details served from the detail cache.
+	 *
+	 * @return number of cache hits
+	 */
+	public synchronized long getDetailCacheHits() {
+		return fDetailCacheHits;
+	}
+
+	/**
+	 * Returns the number of details that had to be computed because they were
+	 * not in the detail cache.
+	 *
+	 * @return number of cache misses
+	 */
+	public synchronized long getDetailCacheMisses() {
+		return fDetailCacheMisses;
+	}
+
 	private IJavaProject getJavaProject(IJavaObject javaValue, IJavaThread thread) throws CoreException {
 
 		IType type = null;
@@ -451,6 +574,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				property.equals(IDebugUIConstants.PREF_MAX_DETAIL_LENGTH)) {
 			populateDetailFormattersMap();
 			fCacheMap.clear();
+			clearDetailCache();
 			// If a Java stack frame is selected in the Debug view, fire a change event on
 			// it so the variables view will update for any formatter changes.
             IAdaptable selected = DebugUITools.getDebugContext();
@@ -473,6 +597,13 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			DebugEvent event = events[i];
 			if (event.getSource() instanceof IJavaDebugTarget && event.getKind() == DebugEvent.TERMINATE) {
 				deleteCacheForTarget((IJavaDebugTarget) event.getSource());
+			} else if (event.getKind() == DebugEvent.RESUME && event.getDetail() != DebugEvent.EVALUATION_IMPLICIT
+					&& event.getSource() instanceof IDebugElement) {
+				// objects may change once a thread runs
+				IJavaDebugTarget debugTarget= ((IDebugElement) event.getSource()).getDebugTarget().getAdapter(IJavaDebugTarget.class);
+				if (debugTarget != null) {
+					deleteDetailsForTarget(debugTarget, true);
+				}
 			}
 		}
 	}
@@ -520,6 +651,30 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				iter.remove();
 			}
 		}
+		deleteDetailsForTarget(debugTarget, false);
+	}
+
+	/**
+	 * Remove from the cache the details computed in the given debug target.
+	 *
+	 * @param debugTarget the target
+	 * @param resumed whether the target resumed, rather than terminated
+	 */
+	private synchronized void deleteDetailsForTarget(IJavaDebugTarget debugTarget, boolean resumed) {
+		fDetailCache.keySet().removeIf(key -> key.fDebugTarget == debugTarget);
+		if (resumed) {
+			Long generation= fSuspendGenerations.get(debugTarget);
+			fSuspendGenerations.put(debugTarget, Long.valueOf(generation == null ? 1 : generation.longValue() + 1));
+		} else {
+			fSuspendGenerations.remove(debugTarget);
+		}
+	}
+
+	/**
+	 * Remove all the details from the cache.
+	 */
+	private synchronized void clearDetailCache() {
+		fDetailCache.clear();
 	}
 
 	/**
@@ -550,6 +705,39 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		}
 	}
 
+	/**
+	 * Object used as the key in the detail cache to associate a detail with an
+	 * object, the formatter used and the suspend generation of the target
+	 */
+	static private class DetailKey {
+		private final IJavaDebugTarget fDebugTarget;
+		private final long fUniqueId;
+		private final String fSnippet;
+		private final long fGeneration;
+
+		DetailKey(IJavaDebugTarget debugTarget, long uniqueId, String snippet, long generation) {
+			fDebugTarget= debugTarget;
+			fUniqueId= uniqueId;
+			fSnippet= snippet;
+			fGeneration= generation;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof DetailKey) {
+				DetailKey key= (DetailKey) obj;
+				return fDebugTarget.equals(key.fDebugTarget) && fUniqueId == key.fUniqueId && fGeneration == key.fGeneration
+						&& Objects.equals(fSnippet, key.fSnippet);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fDebugTarget, Long.valueOf(fUniqueId), fSnippet, Long.valueOf(fGeneration));
+		}
+	}
+
 	/**
 	 * Stores a compiled expression and evaluation engine used to evaluate the expression.
 	 */
@@ -599,10 +787,28 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 
 		private final IJavaThread fThread;
 
-		public EvaluationListener(IJavaValue value, IJavaThread thread, IValueDetailListener listener) {
+		/**
+		 * Key of the detail in the detail cache or <code>null</code>
+		 */
+		private final DetailKey fKey;
+
+		public EvaluationListener(IJavaValue value, IJavaThread thread, IValueDetailListener listener, DetailKey key) {
 			fValue= value;
 			fThread= thread;
 			fListener= listener;
+			fKey= key;
+		}
+
+		/**
+		 * Notifies the listener of a detail computed without error, and caches it.
+		 *
+		 * @param detail the detail
+		 */
+		private void detailComputed(String detail) {
+			if (fKey != null) {
+				getDefault().cacheDetail(fKey, detail);
+			}
+			fListener.detailComputed(fValue, detail);
 		}
 
 		@Override
@@ -640,6 +846,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		public void valueToString(final IJavaValue objectValue) throws DebugException {
 			String nonEvalResult = null;
 			StringBuilder result= null;
+			boolean cache = true;
 			if (objectValue.getSignature() == null) {
 				// no need to spawn evaluate for a null fValue
 				nonEvalResult = DebugUIMessages.JavaDetailFormattersManager_null;
@@ -651,6 +858,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				// no thread available
 				result = new StringBuilder();
 				result.append(DebugUIMessages.JavaDetailFormattersManager_no_suspended_threads);
+				cache = false;
 				appendJDIValueString(result, objectValue);
 			} else if (objectValue instanceof IJavaObject && STRING_SIGNATURE.equals(objectValue.getSignature())) {
 				// no need to spawn evaluate for a java.lang.String
@@ -661,7 +869,11 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				nonEvalResult = result.toString();
 			}
 			if (nonEvalResult != null) {
-				fListener.detailComputed(fValue, nonEvalResult);
+				if (cache) {
+					detailComputed(nonEvalResult);
+				} else {
+					fListener.detailComputed(fValue, nonEvalResult);
+				}
 				return;
 			}
 
@@ -676,7 +888,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 					} else {
 						appendJDIValueString(buf, objectValue);
 					}
-					fListener.detailComputed(fValue, buf.toString());
+					detailComputed(buf.toString());
 				}
 			};
 			fThread.runEvaluation(eval, null, DebugEvent.EVALUATION_IMPLICIT, false);
@@ -699,6 +911,13 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				length = arrayValue.getLength();
 				if (maxLength > 0 && length > maxEntries) {
 					partial = true;
+				}
+				Object primitives = arrayValue.getPrimitiveValues(0, partial ? maxEntries : length);
+				if (primitives != null) {
+					appendPrimitiveArrayDetail(result, primitives, partial, maxLength);
+					return;
+				}
+				if (partial) {
 					IVariable[] variables = arrayValue.getVariables(0, maxEntries);
 					arrayValues = new IJavaValue[variables.length];
 					for (int i = 0; i < variables.length; i++) {
@@ -735,13 +954,56 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			}
 		}
 
+		/*
+		 * Appends the values of an array of a primitive type, fetched in bulk, in the same format as
+		 * appendArrayDetail without creating a value per entry.
+		 */
+		private void appendPrimitiveArrayDetail(StringBuilder result, Object primitives, boolean partial, int maxLength) {
+			int count = Array.getLength(primitives);
+			for (int i = 0; i < count; i++) {
+				if (primitives instanceof int[]) {
+					result.append(((int[]) primitives)[i]);
+				} else if (primitives instanceof byte[]) {
+					result.append(((byte[]) primitives)[i]);
+				} else if (primitives instanceof char[]) {
+					result.append(((char[]) primitives)[i]);
+				} else if (primitives instanceof long[]) {
+					result.append(((long[]) primitives)[i]);
+				} else if (primitives instanceof double[]) {
+					result.append(((double[]) primitives)[i]);
+				} else if (primitives instanceof float[]) {
+					result.append(((float[]) primitives)[i]);
+				} else if (primitives instanceof short[]) {
+					result.append(((short[]) primitives)[i]);
+				} else {
+					result.append(((boolean[]) primitives)[i]);
+				}
+				if (i < count - 1) {
+					result.append(',');
+					result.append(' ');
+				}
+				if (partial && result.length() > maxLength) {
+					break;
+				}
+			}
+			if (!partial) {
+				result.append(']');
+			}
+		}
+
 		protected void appendJDIPrimitiveValueString(StringBuilder result, IJavaValue value) throws DebugException {
 			result.append(value.getValueString());
 		}
 
 
 		protected void appendJDIValueString(StringBuilder result, IJavaValue value) throws DebugException {
-			result.append(value.getValueString());
+			int maxLength = getMaxDetailLength();
+			if (maxLength > 0 && value instanceof JDIValue) {
+				// one more character than displayed, for the detail to show the string is truncated
+				result.append(((JDIValue) value).getValueString(maxLength + 1));
+			} else {
+				result.append(value.getValueString());
+			}
 		}
 
 
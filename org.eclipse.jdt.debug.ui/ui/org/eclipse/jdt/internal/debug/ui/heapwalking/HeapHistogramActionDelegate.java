@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.heapwalking;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHeapHistogram;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.ui.IObjectActionDelegate;
+import org.eclipse.ui.IWorkbenchPart;
+
+/**
+ * Action to display the heap histogram of a selected Java debug target, with
+ * the changes since the histogram previously displayed for the same target.
+ */
+public class HeapHistogramActionDelegate implements IObjectActionDelegate {
+
+	/**
+	 * Number of entries of a histogram to display
+	 */
+	private static final int MAX_ENTRIES = 20;
+
+	/**
+	 * Histogram last displayed for each target, until the target terminates.
+	 * A histogram refers to its target, so the entries are removed explicitly.
+	 */
+	private static final Map<IJavaDebugTarget, IJavaHeapHistogram> fgPreviousHistograms = new HashMap<>();
+
+	/**
+	 * Removes the histogram of a target when it terminates, registered while
+	 * there are histograms
+	 */
+	private static final IDebugEventSetListener fgTerminateListener = new IDebugEventSetListener() {
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IJavaDebugTarget) {
+					removePreviousHistogram((IJavaDebugTarget) event.getSource());
+				}
+			}
+		}
+	};
+
+	private IJavaDebugTarget fTarget;
+	private IWorkbenchPart fPart;
+
+	@Override
+	public void setActivePart(IAction action, IWorkbenchPart targetPart) {
+		fPart = targetPart;
+	}
+
+	@Override
+	public void run(IAction action) {
+		if (fTarget == null || fPart == null) {
+			return;
+		}
+		try {
+			IJavaHeapHistogram histogram = fTarget.getHeapHistogram();
+			if (histogram == null) {
+				MessageDialog.openInformation(fPart.getSite().getShell(), Messages.HeapHistogramActionDelegate_0, Messages.HeapHistogramActionDelegate_1);
+				return;
+			}
+			StringBuilder message = new StringBuilder();
+			message.append(NLS.bind(Messages.HeapHistogramActionDelegate_2, new String[] {
+					Long.toString(histogram.getTotalCount()), Integer.toString(histogram.size()) }));
+			appendEntries(message, histogram, false);
+			IJavaHeapHistogram previous = putPreviousHistogram(fTarget, histogram);
+			if (previous != null) {
+				IJavaHeapHistogram delta = histogram.subtract(previous);
+				message.append('\n');
+				message.append(NLS.bind(Messages.HeapHistogramActionDelegate_3, Long.toString(delta.getTotalCount())));
+				appendEntries(message, delta, true);
+			}
+			MessageDialog.openInformation(fPart.getSite().getShell(), Messages.HeapHistogramActionDelegate_0, message.toString());
+		} catch (DebugException e) {
+			JDIDebugUIPlugin.statusDialog(e.getStatus());
+		}
+	}
+
+	/**
+	 * Records the histogram displayed for the given target, unless the target
+	 * terminated meanwhile.
+	 *
+	 * @param target debug target
+	 * @param histogram histogram of the target
+	 * @return the histogram previously displayed for the target, or <code>null</code>
+	 */
+	private static IJavaHeapHistogram putPreviousHistogram(IJavaDebugTarget target, IJavaHeapHistogram histogram) {
+		synchronized (fgPreviousHistograms) {
+			if (target.isTerminated()) {
+				return fgPreviousHistograms.get(target);
+			}
+			if (fgPreviousHistograms.isEmpty()) {
+				DebugPlugin.getDefault().addDebugEventListener(fgTerminateListener);
+			}
+			return fgPreviousHistograms.put(target, histogram);
+		}
+	}
+
+	/**
+	 * Forgets the histogram displayed for the given target.
+	 *
+	 * @param target debug target
+	 */
+	private static void removePreviousHistogram(IJavaDebugTarget target) {
+		synchronized (fgPreviousHistograms) {
+			if (fgPreviousHistograms.remove(target) != null && fgPreviousHistograms.isEmpty()) {
+				DebugPlugin.getDefault().removeDebugEventListener(fgTerminateListener);
+			}
+		}
+	}
+
+	/**
+	 * Appends the largest entries of the given histogram, one per line.
+	 *
+	 * @param message the message to append to
+	 * @param histogram histogram
+	 * @param signed whether positive counts are displayed with a sign
+	 */
+	private void appendEntries(StringBuilder message, IJavaHeapHistogram histogram, boolean signed) {
+		int size = Math.min(histogram.size(), MAX_ENTRIES);
+		for (int i = 0; i < size; i++) {
+			long count = histogram.getCount(i);
+			message.append('\n');
+			message.append(NLS.bind(Messages.HeapHistogramActionDelegate_4, new String[] {
+					signed && count > 0 ? "+" + count : Long.toString(count), histogram.getTypeName(i) })); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public void selectionChanged(IAction action, ISelection selection) {
+		fTarget = null;
+		if (selection instanceof IStructuredSelection) {
+			IStructuredSelection ss = (IStructuredSelection) selection;
+			if (ss.size() == 1 && ss.getFirstElement() instanceof IJavaDebugTarget) {
+				fTarget = (IJavaDebugTarget) ss.getFirstElement();
+			}
+		}
+	}
+}
@@ -39,6 +39,12 @@ public class Messages extends NLS {
 
 	public static String InstanceCountActionDelegate_3;
 
+	public static String HeapHistogramActionDelegate_0;
+	public static String HeapHistogramActionDelegate_1;
+	public static String HeapHistogramActionDelegate_2;
+	public static String HeapHistogramActionDelegate_3;
+	public static String HeapHistogramActionDelegate_4;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
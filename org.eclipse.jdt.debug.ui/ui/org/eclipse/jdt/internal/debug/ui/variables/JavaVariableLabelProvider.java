@@ -13,12 +13,18 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.variables;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
@@ -41,6 +47,7 @@ import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import org.eclipse.jdt.internal.debug.ui.DebugUIMessages;
 import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
@@ -202,6 +209,43 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 		return super.getColumnText(variable, value, context, columnId);
 	}
 
+	/**
+	 * Retrieves what the labels of all the given updates display together,
+	 * in a background job, before the labels are built one by one. The job
+	 * uses the scheduling rule of the label jobs.
+	 */
+	@Override
+	public void update(ILabelUpdate[] updates) {
+		if (updates.length < 2) {
+			super.update(updates);
+			return;
+		}
+		Job job = new Job(VariableMessages.JavaVariableLabelProvider_0) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				List<IJavaValue> values = new ArrayList<>(updates.length);
+				for (ILabelUpdate update : updates) {
+					if (!update.isCanceled() && update.getElement() instanceof IJavaVariable) {
+						try {
+							IValue value = ((IJavaVariable) update.getElement()).getValue();
+							if (value instanceof IJavaValue) {
+								values.add((IJavaValue) value);
+							}
+						} catch (DebugException e) {
+						}
+					}
+				}
+				JDIValue.prefetchLabels(values, JDIModelPresentation.getStringRetrievalLength());
+				JavaVariableLabelProvider.super.update(updates);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		// do not talk to the target while a label of the same frame is evaluated
+		job.setRule(getRule(updates[0]));
+		job.schedule();
+	}
+
 	/**
 	 * Sets qualified name setting before building label
 	 */
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.debug.eval;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.jdt.debug.core.IJavaObject;
@@ -40,6 +41,14 @@ public interface IAstEvaluationEngine extends IEvaluationEngine {
 	 */
 	int DISABLE_GC_ON_RESULT = 0x0100;
 
+	/**
+	 * Instructs the evaluation engine to record where the time of the evaluation is spent. The profile is available from
+	 * {@link IEvaluationResult#getProfile()}. Can be passed as a bit flag to the <code>evaluationDetail</code> parameter.
+	 *
+	 * @since 3.22
+	 */
+	int PROFILE_EVALUATION = 0x0200;
+
 	/**
 	 * Asynchronously evaluates the given expression in the context of the
 	 * specified stack frame, reporting the result back to the given listener.
@@ -60,7 +69,8 @@ public interface IAstEvaluationEngine extends IEvaluationEngine {
 	 * @param evaluationDetail
 	 *            bitmask of one of <code>DebugEvent.EVALUATION</code> or
 	 *            <code>DebugEvent.EVALUATION_IMPLICIT</code> and
-	 *            optionally <code>DISABLE_GC_ON_RESULT</code>
+	 *            optionally <code>DISABLE_GC_ON_RESULT</code> and
+	 *            <code>PROFILE_EVALUATION</code>
 	 * @param hitBreakpoints
 	 *            whether or not breakpoints should be honored in the evaluation
 	 *            thread during the evaluation. If <code>false</code>,
@@ -108,7 +118,8 @@ public interface IAstEvaluationEngine extends IEvaluationEngine {
 	 * @param evaluationDetail
 	 *            bitmask of one of <code>DebugEvent.EVALUATION</code> or
 	 *            <code>DebugEvent.EVALUATION_IMPLICIT</code> and
-	 *            optionally <code>DISABLE_GC_ON_RESULT</code>
+	 *            optionally <code>DISABLE_GC_ON_RESULT</code> and
+	 *            <code>PROFILE_EVALUATION</code>
 	 * @param hitBreakpoints
 	 *            whether or not breakpoints should be honored in the evaluation
 	 *            thread during the evaluation. If <code>false</code>,
@@ -132,6 +143,96 @@ public interface IAstEvaluationEngine extends IEvaluationEngine {
 			IEvaluationListener listener, int evaluationDetail,
 			boolean hitBreakpoints) throws DebugException;
 
+	/**
+	 * Asynchronously evaluates the given expression in the context of the
+	 * specified stack frame and returns a future of the result. The
+	 * evaluation is performed as described in
+	 * {@link #evaluateExpression(ICompiledExpression, IJavaStackFrame, IEvaluationListener, int, boolean)}.
+	 * <p>
+	 * Cancelling the returned future before the evaluation has started
+	 * prevents the evaluation. Cancelling it while the evaluation is in
+	 * progress terminates the evaluation before its next instruction; a method
+	 * invocation in progress in the target is not interrupted. When the
+	 * evaluation does not complete within the given timeout it is terminated
+	 * the same way and the future completes exceptionally with a
+	 * {@link java.util.concurrent.TimeoutException}.
+	 * </p>
+	 *
+	 * @param expression
+	 *            expression to evaluate
+	 * @param frame
+	 *            the stack frame context in which to run the evaluation.
+	 * @param evaluationDetail
+	 *            bitmask of one of <code>DebugEvent.EVALUATION</code> or
+	 *            <code>DebugEvent.EVALUATION_IMPLICIT</code> and
+	 *            optionally <code>DISABLE_GC_ON_RESULT</code> and
+	 *            <code>PROFILE_EVALUATION</code>
+	 * @param hitBreakpoints
+	 *            whether or not breakpoints should be honored in the evaluation
+	 *            thread during the evaluation. If <code>false</code>,
+	 *            breakpoints hit in the evaluation thread will be ignored.
+	 * @param timeout
+	 *            maximum time in milliseconds the evaluation may take, or
+	 *            <code>0</code> for no limit
+	 * @return future of the evaluation result
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                <li>The associated thread is not currently suspended</li>
+	 *                <li>The stack frame is not contained in the debug target
+	 *                associated with this evaluation engine</li>
+	 *                </ul>
+	 * @since 3.22
+	 */
+	public CompletableFuture<IEvaluationResult> evaluateExpression(ICompiledExpression expression,
+			IJavaStackFrame frame, int evaluationDetail, boolean hitBreakpoints,
+			long timeout) throws DebugException;
+
+	/**
+	 * Asynchronously evaluates the given expression in the context of the
+	 * specified object and returns a future of the result. The evaluation is
+	 * performed as described in
+	 * {@link #evaluateExpression(ICompiledExpression, IJavaObject, IJavaThread, IEvaluationListener, int, boolean)}
+	 * and can be cancelled and limited in time as described in
+	 * {@link #evaluateExpression(ICompiledExpression, IJavaStackFrame, int, boolean, long)}.
+	 *
+	 * @param expression
+	 *            the expression to evaluate
+	 * @param object
+	 *            the 'this' context for the evaluation
+	 * @param thread
+	 *            the thread in which to run the evaluation, which must be
+	 *            suspended
+	 * @param evaluationDetail
+	 *            bitmask of one of <code>DebugEvent.EVALUATION</code> or
+	 *            <code>DebugEvent.EVALUATION_IMPLICIT</code> and
+	 *            optionally <code>DISABLE_GC_ON_RESULT</code> and
+	 *            <code>PROFILE_EVALUATION</code>
+	 * @param hitBreakpoints
+	 *            whether or not breakpoints should be honored in the evaluation
+	 *            thread during the evaluation. If <code>false</code>,
+	 *            breakpoints hit in the evaluation thread will be ignored.
+	 * @param timeout
+	 *            maximum time in milliseconds the evaluation may take, or
+	 *            <code>0</code> for no limit
+	 * @return future of the evaluation result
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                <li>The associated thread is not currently suspended</li>
+	 *                </ul>
+	 * @since 3.22
+	 */
+	public CompletableFuture<IEvaluationResult> evaluateExpression(ICompiledExpression expression,
+			IJavaObject object, IJavaThread thread, int evaluationDetail,
+			boolean hitBreakpoints, long timeout) throws DebugException;
+
 	/**
 	 * Synchronously generates a compiled expression from the given expression
 	 * in the context of the specified stack frame. The generated expression can
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.eval;
+
+/**
+ * Describes where the time of an evaluation was spent. A profile records the
+ * wall time, the number of commands sent to the target VM and the number of
+ * methods invoked in the target, both for the complete evaluation and for each
+ * instruction of the compiled expression.
+ * <p>
+ * A profile is available from an {@link IEvaluationResult} when the
+ * evaluation was performed with
+ * {@link IAstEvaluationEngine#PROFILE_EVALUATION}.
+ * </p>
+ *
+ * @see IEvaluationResult#getProfile()
+ * @since 3.22
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ */
+public interface IEvaluationProfile {
+
+	/**
+	 * Returns the wall time spent executing the evaluation, in nanoseconds.
+	 *
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedTime();
+
+	/**
+	 * Returns the number of commands sent to the target VM during the
+	 * evaluation.
+	 *
+	 * @return number of commands sent to the target VM
+	 */
+	public int getRequestCount();
+
+	/**
+	 * Returns the number of methods invoked in the target VM during the
+	 * evaluation.
+	 *
+	 * @return number of methods invoked in the target VM
+	 */
+	public int getInvocationCount();
+
+	/**
+	 * Returns the number of instructions of the compiled expression. Valid
+	 * instruction indices range from zero to this number minus one.
+	 *
+	 * @return number of instructions
+	 */
+	public int getInstructionCount();
+
+	/**
+	 * Returns a description of the instruction at the given index.
+	 *
+	 * @param index
+	 *            instruction index
+	 * @return description of the instruction
+	 */
+	public String getInstruction(int index);
+
+	/**
+	 * Returns how many times the instruction at the given index was executed.
+	 * Instructions may be executed several times in loops, or not at all when
+	 * skipped by a jump or when the evaluation failed.
+	 *
+	 * @param index
+	 *            instruction index
+	 * @return number of executions of the instruction
+	 */
+	public int getExecutionCount(int index);
+
+	/**
+	 * Returns the wall time spent executing the instruction at the given
+	 * index, in nanoseconds, summed over all its executions.
+	 *
+	 * @param index
+	 *            instruction index
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedTime(int index);
+
+	/**
+	 * Returns the number of commands sent to the target VM by the instruction
+	 * at the given index, summed over all its executions.
+	 *
+	 * @param index
+	 *            instruction index
+	 * @return number of commands sent to the target VM
+	 */
+	public int getRequestCount(int index);
+
+	/**
+	 * Returns the number of methods invoked in the target VM by the
+	 * instruction at the given index, summed over all its executions.
+	 *
+	 * @param index
+	 *            instruction index
+	 * @return number of methods invoked in the target VM
+	 */
+	public int getInvocationCount(int index);
+}
@@ -116,4 +116,15 @@ public interface IEvaluationResult {
 	 * @since 3.5
 	 */
 	public boolean isTerminated();
+
+	/**
+	 * Returns the profile of this evaluation, or <code>null</code> if the
+	 * evaluation was not profiled. Evaluations are profiled when performed by
+	 * an {@link IAstEvaluationEngine} with
+	 * {@link IAstEvaluationEngine#PROFILE_EVALUATION}.
+	 *
+	 * @return the profile of this evaluation or <code>null</code>
+	 * @since 3.22
+	 */
+	public IEvaluationProfile getProfile();
 }
@@ -21,6 +21,7 @@ import org.eclipse.jdt.core.dom.Message;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.eval.IEvaluationEngine;
+import org.eclipse.jdt.debug.eval.IEvaluationProfile;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
 
 /**
@@ -65,6 +66,11 @@ public class EvaluationResult implements IEvaluationResult {
 	 */
 	private boolean fTerminated = false;
 
+	/**
+	 * Profile of the evaluation, or <code>null</code> if not profiled.
+	 */
+	private IEvaluationProfile fProfile;
+
 	/**
 	 * Constructs a new evaluation result for the given engine, thread, and code
 	 * snippet.
@@ -225,4 +231,23 @@ public class EvaluationResult implements IEvaluationResult {
 	public void setTerminated(boolean terminated) {
 		fTerminated = terminated;
 	}
+
+	/**
+	 * @see IEvaluationResult#getProfile()
+	 */
+	@Override
+	public IEvaluationProfile getProfile() {
+		return fProfile;
+	}
+
+	/**
+	 * Sets the profile of the evaluation.
+	 *
+	 * @param profile
+	 *            profile of the evaluation, or <code>null</code> if not
+	 *            profiled
+	 */
+	public void setProfile(IEvaluationProfile profile) {
+		fProfile = profile;
+	}
 }
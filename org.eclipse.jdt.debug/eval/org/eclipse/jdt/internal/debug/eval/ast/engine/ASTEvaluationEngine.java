@@ -15,17 +15,27 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.eval.ast.engine;
 
+import java.lang.ref.WeakReference;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +50,9 @@ import org.eclipse.debug.core.IDebugEventFilter;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.Signature;
@@ -52,6 +65,7 @@ import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
@@ -89,6 +103,66 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 	private IJavaDebugTarget fDebugTarget;
 
+	/**
+	 * Executor scheduling the deadlines of evaluations, shared by all engines
+	 */
+	private static ScheduledThreadPoolExecutor fgDeadlineExecutor;
+
+	/**
+	 * Maximum number of compiled expressions retained in {@link #fCompiledExpressions}
+	 */
+	private static final int MAX_CACHED_EXPRESSIONS = 256;
+
+	/**
+	 * LRU cache of expressions compiled in the context of a reference type. Logical structures and detail formatters compile the same snippet
+	 * against the same type over and over again. Instructions refer to the interpreter executing them, so an expression is removed from the
+	 * cache while it is in use and returned once its evaluation completes; concurrent evaluations of the same snippet compile their own copy.
+	 */
+	private final Map<CompiledExpressionKey, ICompiledExpression> fCompiledExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CompiledExpressionKey, ICompiledExpression> eldest) {
+			return size() > MAX_CACHED_EXPRESSIONS;
+		}
+	};
+
+	/**
+	 * Expressions handed out by {@link #getCompiledExpression(String, IJavaReferenceType, Map)} and not yet returned to the cache, with the key
+	 * to return them under. Expressions that are never evaluated are simply collected.
+	 */
+	private final Map<ICompiledExpression, CompiledExpressionKey> fCheckedOutExpressions = new WeakHashMap<>();
+
+	/**
+	 * Sources generated around code snippets, shared by all evaluations compiled by this engine
+	 */
+	private final EvaluationSourceCache fSourceCache = new EvaluationSourceCache();
+
+	/**
+	 * Flushes the compiled expression cache when the classpath of the project changes, since types referenced by cached expressions may then
+	 * resolve differently. Registered when the first expression is compiled, or <code>null</code> if not registered.
+	 */
+	private ClasspathListener fClasspathListener;
+
+	/**
+	 * Flushes the compiled expression cache after a hot code replace, since cached expressions may refer to members that no longer exist.
+	 */
+	private final IJavaHotCodeReplaceListener fHotCodeReplaceListener = new IJavaHotCodeReplaceListener() {
+		@Override
+		public void hotCodeReplaceSucceeded(IJavaDebugTarget target) {
+			clearCompiledExpressions();
+		}
+
+		@Override
+		public void hotCodeReplaceFailed(IJavaDebugTarget target, DebugException exception) {
+			clearCompiledExpressions();
+		}
+
+		@Override
+		public void obsoleteMethods(IJavaDebugTarget target) {
+		}
+	};
+
 	/**
 	 * Regex to find occurrences of 'this' in a code snippet
 	 */
@@ -119,6 +193,59 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 	}
 
+	/**
+	 * Key of a compiled expression in the compiled expression cache.
+	 */
+	static private class CompiledExpressionKey {
+		private final String fSnippet;
+		private final String fTypeSignature;
+		private final Map<String, String> fCompileOptions;
+		private final IJavaProject fJavaProject;
+
+		CompiledExpressionKey(String snippet, String typeSignature, Map<String, String> compileOptions, IJavaProject project) {
+			fSnippet = snippet;
+			fTypeSignature = typeSignature;
+			fCompileOptions = compileOptions == null ? Collections.emptyMap() : new HashMap<>(compileOptions);
+			fJavaProject = project;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof CompiledExpressionKey key) {
+				return fSnippet.equals(key.fSnippet) && fTypeSignature.equals(key.fTypeSignature) && fCompileOptions.equals(key.fCompileOptions)
+						&& Objects.equals(fJavaProject, key.fJavaProject);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fSnippet, fTypeSignature, fCompileOptions, fJavaProject);
+		}
+	}
+
+	/**
+	 * Forwards Java element changes to an engine without keeping it reachable, since engines are not always disposed. The listener removes
+	 * itself once its engine has been collected.
+	 */
+	private static class ClasspathListener implements IElementChangedListener {
+		private final WeakReference<ASTEvaluationEngine> fEngine;
+
+		ClasspathListener(ASTEvaluationEngine engine) {
+			fEngine = new WeakReference<>(engine);
+		}
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			ASTEvaluationEngine engine = fEngine.get();
+			if (engine == null) {
+				JavaCore.removeElementChangedListener(this);
+			} else {
+				engine.handleElementChanged(event);
+			}
+		}
+	}
+
 	public ASTEvaluationEngine(IJavaProject project, IJavaDebugTarget debugTarget) {
 		setJavaProject(project);
 		setDebugTarget(debugTarget);
@@ -126,10 +253,51 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 	public void setJavaProject(IJavaProject project) {
 		fProject = project;
+		clearCompiledExpressions();
 	}
 
 	public void setDebugTarget(IJavaDebugTarget debugTarget) {
+		if (fDebugTarget != null) {
+			fDebugTarget.removeHotCodeReplaceListener(fHotCodeReplaceListener);
+		}
 		fDebugTarget = debugTarget;
+		if (fDebugTarget != null) {
+			fDebugTarget.addHotCodeReplaceListener(fHotCodeReplaceListener);
+		}
+		clearCompiledExpressions();
+	}
+
+	/**
+	 * Removes all expressions from the compiled expression cache, along with the sources generated for them.
+	 */
+	public void clearCompiledExpressions() {
+		synchronized (fCompiledExpressions) {
+			fCompiledExpressions.clear();
+			fCheckedOutExpressions.clear();
+		}
+		fSourceCache.clear();
+	}
+
+	/**
+	 * Clears the compiled expression cache if the classpath of the project of this engine changed.
+	 *
+	 * @param event
+	 *            Java element change event
+	 */
+	private void handleElementChanged(ElementChangedEvent event) {
+		IJavaProject project = getJavaProject();
+		if (project == null) {
+			return;
+		}
+		for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+			if (project.equals(delta.getElement())) {
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					clearCompiledExpressions();
+				}
+				return;
+			}
+		}
 	}
 
 	/*
@@ -216,24 +384,130 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		doEvaluation(expression, context, thread, listener, evaluationDetail, hitBreakpoints);
 	}
 
+	@Override
+	public CompletableFuture<IEvaluationResult> evaluateExpression(ICompiledExpression expression, IJavaStackFrame frame, int evaluationDetail, boolean hitBreakpoints, long timeout) throws DebugException {
+		traceCaller(expression.getSnippet(), frame.getThread());
+		RuntimeContext context = new RuntimeContext(getJavaProject(), frame);
+		return doEvaluation(expression, context, (IJavaThread) frame.getThread(), evaluationDetail, hitBreakpoints, timeout);
+	}
+
+	@Override
+	public CompletableFuture<IEvaluationResult> evaluateExpression(ICompiledExpression expression, IJavaObject thisContext, IJavaThread thread, int evaluationDetail, boolean hitBreakpoints, long timeout) throws DebugException {
+		traceCaller(expression.getSnippet(), thread);
+		IRuntimeContext context = null;
+		if (thisContext instanceof IJavaArray) {
+			context = new ArrayRuntimeContext((IJavaArray) thisContext, thread, getJavaProject());
+		} else {
+			context = new JavaObjectRuntimeContext(thisContext, getJavaProject(), thread);
+		}
+		return doEvaluation(expression, context, thread, evaluationDetail, hitBreakpoints, timeout);
+	}
+
+	/**
+	 * Evaluates the given expression in the given thread and the given runtime context, returning a future of the result that terminates the
+	 * evaluation when cancelled or when the timeout expires.
+	 */
+	private CompletableFuture<IEvaluationResult> doEvaluation(ICompiledExpression expression, IRuntimeContext context, IJavaThread thread, int evaluationDetail, boolean hitBreakpoints, long timeout) throws DebugException {
+		EvaluationFuture future = new EvaluationFuture((evaluationDetail & IAstEvaluationEngine.DISABLE_GC_ON_RESULT) != 0);
+		future.setRunnable(doEvaluation(expression, context, thread, future, evaluationDetail, hitBreakpoints));
+		if (timeout > 0 && !future.isDone()) {
+			ScheduledFuture<?> deadline = getDeadlineExecutor().schedule(() -> {
+				if (future.completeExceptionally(new TimeoutException())) {
+					future.terminate();
+				}
+			}, timeout, TimeUnit.MILLISECONDS);
+			future.whenComplete((result, exception) -> deadline.cancel(false));
+		}
+		return future;
+	}
+
+	/**
+	 * Returns the executor scheduling the deadlines of all evaluations. Its single thread only lives while deadlines are pending.
+	 */
+	private static synchronized ScheduledExecutorService getDeadlineExecutor() {
+		if (fgDeadlineExecutor == null) {
+			fgDeadlineExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+				Thread thread = new Thread(r, "Evaluation Deadlines"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			fgDeadlineExecutor.setRemoveOnCancelPolicy(true);
+			fgDeadlineExecutor.setKeepAliveTime(1, TimeUnit.SECONDS);
+			fgDeadlineExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fgDeadlineExecutor;
+	}
+
+	/**
+	 * Future of an evaluation result. Cancelling the future terminates the evaluation.
+	 */
+	private static class EvaluationFuture extends CompletableFuture<IEvaluationResult> implements IEvaluationListener {
+
+		private final boolean fDisableGcOnResult;
+
+		private volatile EvalRunnable fRunnable;
+
+		EvaluationFuture(boolean disableGcOnResult) {
+			fDisableGcOnResult = disableGcOnResult;
+		}
+
+		void setRunnable(EvalRunnable runnable) {
+			fRunnable = runnable;
+			if (runnable != null && isDone()) {
+				// cancelled or timed out while being queued
+				runnable.terminate();
+			}
+		}
+
+		void terminate() {
+			EvalRunnable runnable = fRunnable;
+			if (runnable != null) {
+				runnable.terminate();
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				terminate();
+			}
+			return cancelled;
+		}
+
+		@Override
+		public void evaluationComplete(IEvaluationResult result) {
+			if (!complete(result) && fDisableGcOnResult && result.getValue() instanceof IJavaObject object) {
+				// nobody is interested in the result any more
+				try {
+					object.enableCollection();
+				} catch (DebugException e) {
+					// the target may have terminated
+				}
+			}
+		}
+	}
+
 	/**
 	 * Evaluates the given expression in the given thread and the given runtime context.
 	 */
-	private void doEvaluation(ICompiledExpression expression, IRuntimeContext context, IJavaThread thread, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) throws DebugException {
+	private EvalRunnable doEvaluation(ICompiledExpression expression, IRuntimeContext context, IJavaThread thread, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) throws DebugException {
 		if (expression instanceof InstructionSequence) {
 			// don't queue explicit evaluation if the thread is all ready
 			// performing an evaluation.
 			if (thread.isSuspended() && ((JDIThread) thread).isInvokingMethod()
-					|| thread.isPerformingEvaluation() && evaluationDetail == DebugEvent.EVALUATION) {
+					|| thread.isPerformingEvaluation() && (evaluationDetail & EVALUATION_DETAIL_BITMASK) == DebugEvent.EVALUATION) {
 				EvaluationResult result = new EvaluationResult(this, expression.getSnippet(), thread);
 				result.addError(EvaluationEngineMessages.ASTEvaluationEngine_Cannot_perform_nested_evaluations);
+				releaseCompiledExpression(expression);
 				listener.evaluationComplete(result);
-				return;
+				return null;
 			}
-			thread.queueRunnable(new EvalRunnable((InstructionSequence) expression, thread, context, listener, evaluationDetail, hitBreakpoints));
-		} else {
-			throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), IStatus.OK, EvaluationEngineMessages.ASTEvaluationEngine_AST_evaluation_engine_cannot_evaluate_expression, null));
+			EvalRunnable runnable = new EvalRunnable((InstructionSequence) expression, thread, context, listener, evaluationDetail, hitBreakpoints);
+			thread.queueRunnable(runnable);
+			return runnable;
 		}
+		throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), IStatus.OK, EvaluationEngineMessages.ASTEvaluationEngine_AST_evaluation_engine_cannot_evaluate_expression, null));
 	}
 
 	/*
@@ -319,7 +593,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			// String[] localVariables = Arrays.clonesub(localVariablesWithNull, names.size());
 			String[] localVariables = new String[names.size()];
 			System.arraycopy(localVariablesWithNull, 0, localVariables, 0, localVariables.length);
-			mapper = new EvaluationSourceGenerator(localTypesNames, localVariables, snippet, getJavaProject());
+			mapper = new EvaluationSourceGenerator(localTypesNames, localVariables, snippet, getJavaProject(), fSourceCache);
 			// Compile in context of declaring type to get proper visibility of
 			// locals and members.
 			// Compiling in context of receiving type potentially provides
@@ -492,7 +766,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 			String[] localTypesNames = new String[] { typeName };
 			String[] localVariables = new String[] { ArrayRuntimeContext.ARRAY_THIS_VARIABLE };
-			mapper = new EvaluationSourceGenerator(localTypesNames, localVariables, newSnippet, getJavaProject());
+			mapper = new EvaluationSourceGenerator(localTypesNames, localVariables, newSnippet, getJavaProject(), fSourceCache);
 
 			int index = typeName.indexOf('$');
 			// if the argument is an inner type, compile in context of outer
@@ -549,6 +823,55 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 	@Override
 	public ICompiledExpression getCompiledExpression(String snippet, IJavaReferenceType type, Map<String, String> compileOptions) {
+		CompiledExpressionKey key;
+		try {
+			key = new CompiledExpressionKey(snippet, type.getSignature(), compileOptions, getJavaProject());
+		} catch (DebugException e) {
+			InstructionSequence expression = new InstructionSequence(snippet);
+			expression.addError(e.getStatus().getMessage());
+			return expression;
+		}
+		synchronized (fCompiledExpressions) {
+			ICompiledExpression expression = fCompiledExpressions.remove(key);
+			if (expression != null) {
+				fCheckedOutExpressions.put(expression, key);
+				return expression;
+			}
+		}
+		ICompiledExpression expression = compileExpression(snippet, type, compileOptions);
+		// failures may be caused by transient conditions (type not loaded, project not built), only remember successful compilations
+		if (!expression.hasErrors()) {
+			synchronized (fCompiledExpressions) {
+				fCheckedOutExpressions.put(expression, key);
+				if (fClasspathListener == null) {
+					fClasspathListener = new ClasspathListener(this);
+					JavaCore.addElementChangedListener(fClasspathListener, ElementChangedEvent.POST_CHANGE);
+				}
+			}
+		}
+		return expression;
+	}
+
+	/**
+	 * Returns an expression obtained from {@link #getCompiledExpression(String, IJavaReferenceType, Map)} to the compiled expression cache once
+	 * its evaluation has completed. Has no effect if the expression was not compiled for the cache, or if the cache was cleared meanwhile.
+	 *
+	 * @param expression
+	 *            expression that is no longer executing
+	 */
+	private void releaseCompiledExpression(ICompiledExpression expression) {
+		synchronized (fCompiledExpressions) {
+			CompiledExpressionKey key = fCheckedOutExpressions.remove(expression);
+			if (key != null) {
+				fCompiledExpressions.putIfAbsent(key, expression);
+			}
+		}
+	}
+
+	/**
+	 * Compiles the given snippet in the context of the given type, bypassing the compiled expression cache.
+	 */
+	private ICompiledExpression compileExpression(String snippet, IJavaReferenceType type, Map<String, String> compileOptions) {
 		if (type instanceof IJavaArrayType) {
 			return getCompiledExpression(snippet, (IJavaArrayType) type);
 		}
@@ -557,7 +880,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		EvaluationSourceGenerator mapper = null;
 		CompilationUnit unit = null;
 
-		mapper = new EvaluationSourceGenerator(new String[0], new String[0], snippet, getJavaProject());
+		mapper = new EvaluationSourceGenerator(new String[0], new String[0], snippet, getJavaProject(), fSourceCache);
 
 		try {
 			unit = parseCompilationUnit(mapper.getSource(type, -1, javaProject, false).toCharArray(), mapper.getCompilationUnitName(), javaProject, compileOptions);
@@ -653,6 +976,16 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	 */
 	@Override
 	public void dispose() {
+		synchronized (fCompiledExpressions) {
+			if (fClasspathListener != null) {
+				JavaCore.removeElementChangedListener(fClasspathListener);
+				fClasspathListener = null;
+			}
+		}
+		if (fDebugTarget != null) {
+			fDebugTarget.removeHotCodeReplaceListener(fHotCodeReplaceListener);
+		}
+		clearCompiledExpressions();
 	}
 
 	class EvalRunnable implements Runnable {
@@ -671,6 +1004,18 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 		private final boolean fDisableGcOnResult;
 
+		private final boolean fProfile;
+
+		/**
+		 * Whether the evaluation was terminated before or while running
+		 */
+		private volatile boolean fTerminateRequested;
+
+		/**
+		 * The runnable performing the evaluation in the thread, while running
+		 */
+		private volatile ITerminate fRunning;
+
 		public EvalRunnable(InstructionSequence expression, IJavaThread thread, IRuntimeContext context, IEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) {
 			fExpression = expression;
 			fThread = thread;
@@ -679,10 +1024,37 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			fEvaluationDetail = (evaluationDetail & EVALUATION_DETAIL_BITMASK);
 			fHitBreakpoints = hitBreakpoints;
 			fDisableGcOnResult = (evaluationDetail & IAstEvaluationEngine.DISABLE_GC_ON_RESULT) != 0;
+			fProfile = (evaluationDetail & IAstEvaluationEngine.PROFILE_EVALUATION) != 0 || JDIDebugOptions.DEBUG_AST_EVAL_PROFILE;
+		}
+
+		/**
+		 * Terminates this evaluation. The evaluation does not start if it has not started yet, and does not report its result.
+		 */
+		void terminate() {
+			fTerminateRequested = true;
+			ITerminate running = fRunning;
+			if (running != null) {
+				try {
+					running.terminate();
+				} catch (DebugException e) {
+					// not thrown by the evaluation runnable
+				}
+			}
 		}
 
 		@Override
 		public void run() {
+			try {
+				evaluate();
+			} finally {
+				releaseCompiledExpression(fExpression);
+			}
+		}
+
+		private void evaluate() {
+			if (fTerminateRequested) {
+				return;
+			}
 			if (JDIDebugOptions.DEBUG_AST_EVAL) {
 				StringBuilder buf = new StringBuilder();
 				buf.append(JDIDebugOptions.FORMAT.format(Instant.now()));
@@ -732,6 +1104,9 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 				return;
 			}
 			final Interpreter interpreter = new Interpreter(fExpression, fContext);
+			if (fProfile) {
+				result.setProfile(interpreter.createProfile());
+			}
 
 			class EvaluationRunnable implements IEvaluationRunnable, ITerminate {
 
@@ -785,12 +1160,18 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			}
 
 			EvaluationRunnable er = new EvaluationRunnable();
+			fRunning = er;
+			if (fTerminateRequested) {
+				er.terminate();
+			}
 			CoreException exception = null;
 			long start = System.currentTimeMillis();
 			try {
 				fThread.runEvaluation(er, null, fEvaluationDetail, fHitBreakpoints);
 			} catch (DebugException e) {
 				exception = e;
+			} finally {
+				fRunning = null;
 			}
 			long end = System.currentTimeMillis();
 
@@ -834,11 +1215,23 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 				buf.append("ms"); //$NON-NLS-1$
 				JDIDebugOptions.trace(buf.toString());
 			}
+			if (JDIDebugOptions.DEBUG_AST_EVAL_PROFILE && result.getProfile() != null) {
+				StringBuilder buf = new StringBuilder();
+				buf.append(JDIDebugOptions.FORMAT.format(Instant.now()));
+				buf.append(" : AST Evaluation Profile"); //$NON-NLS-1$
+				buf.append("\n\tExpression: "); //$NON-NLS-1$
+				buf.append(fExpression.getSnippet());
+				buf.append("\n\t"); //$NON-NLS-1$
+				buf.append(result.getProfile());
+				JDIDebugOptions.trace(JDIDebugOptions.DEBUG_AST_EVALUATIONS_PROFILE_FLAG, buf.toString(), null);
+			}
 
 			evaluationFinished(result);
 		}
 
 		private void evaluationFinished(IEvaluationResult result) {
+			// the instructions are no longer executing, make them available before listeners evaluate again
+			releaseCompiledExpression(fExpression);
 			// only notify if plug-in not yet shutdown - bug# 8693
 			if (JDIDebugPlugin.getDefault() != null) {
 				fListener.evaluationComplete(result);
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import org.eclipse.jdi.internal.MirrorImpl;
+import org.eclipse.jdt.debug.eval.IEvaluationProfile;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
+
+/**
+ * Records the profile of an evaluation while the {@link Interpreter} executes it. Commands sent to the target VM are counted for the thread
+ * running the interpreter, which is the thread sending the commands of the evaluation.
+ */
+public class EvaluationProfile implements IEvaluationProfile {
+
+	private final Instruction[] fInstructions;
+	private final JDIThread fThread;
+
+	private final int[] fExecutionCounts;
+	private final long[] fElapsedTimes;
+	private final int[] fRequestCounts;
+	private final int[] fInvocationCounts;
+
+	private long fElapsedTime;
+	private int fRequestCount;
+	private int fInvocationCount;
+
+	/**
+	 * Time and counts when the evaluation or the current instruction started
+	 */
+	private long fStartTime;
+	private int fStartRequestCount;
+	private int fStartInvocationCount;
+	private long fInstructionStartTime;
+	private int fInstructionStartRequestCount;
+	private int fInstructionStartInvocationCount;
+
+	/**
+	 * @param instructions
+	 *            the instructions of the profiled evaluation
+	 * @param thread
+	 *            the thread performing the evaluation or <code>null</code> if invocations cannot be counted
+	 */
+	public EvaluationProfile(Instruction[] instructions, JDIThread thread) {
+		fInstructions = instructions;
+		fThread = thread;
+		fExecutionCounts = new int[instructions.length];
+		fElapsedTimes = new long[instructions.length];
+		fRequestCounts = new int[instructions.length];
+		fInvocationCounts = new int[instructions.length];
+	}
+
+	private int getCurrentInvocationCount() {
+		return fThread == null ? 0 : fThread.getInvocationCount();
+	}
+
+	void evaluationStarted() {
+		fStartRequestCount = MirrorImpl.getRequestCount();
+		fStartInvocationCount = getCurrentInvocationCount();
+		fStartTime = System.nanoTime();
+	}
+
+	void evaluationFinished() {
+		fElapsedTime += System.nanoTime() - fStartTime;
+		fRequestCount += MirrorImpl.getRequestCount() - fStartRequestCount;
+		fInvocationCount += getCurrentInvocationCount() - fStartInvocationCount;
+	}
+
+	void instructionStarted() {
+		fInstructionStartRequestCount = MirrorImpl.getRequestCount();
+		fInstructionStartInvocationCount = getCurrentInvocationCount();
+		fInstructionStartTime = System.nanoTime();
+	}
+
+	void instructionFinished(int index) {
+		fElapsedTimes[index] += System.nanoTime() - fInstructionStartTime;
+		fRequestCounts[index] += MirrorImpl.getRequestCount() - fInstructionStartRequestCount;
+		fInvocationCounts[index] += getCurrentInvocationCount() - fInstructionStartInvocationCount;
+		fExecutionCounts[index]++;
+	}
+
+	@Override
+	public long getElapsedTime() {
+		return fElapsedTime;
+	}
+
+	@Override
+	public int getRequestCount() {
+		return fRequestCount;
+	}
+
+	@Override
+	public int getInvocationCount() {
+		return fInvocationCount;
+	}
+
+	@Override
+	public int getInstructionCount() {
+		return fInstructions.length;
+	}
+
+	@Override
+	public String getInstruction(int index) {
+		return fInstructions[index].toString();
+	}
+
+	@Override
+	public int getExecutionCount(int index) {
+		return fExecutionCounts[index];
+	}
+
+	@Override
+	public long getElapsedTime(int index) {
+		return fElapsedTimes[index];
+	}
+
+	@Override
+	public int getRequestCount(int index) {
+		return fRequestCounts[index];
+	}
+
+	@Override
+	public int getInvocationCount(int index) {
+		return fInvocationCounts[index];
+	}
+
+	/**
+	 * Returns a table of the executed instructions and their costs, as written to the trace.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder buf = new StringBuilder();
+		buf.append("Elapsed: "); //$NON-NLS-1$
+		buf.append(fElapsedTime / 1000);
+		buf.append("us Requests: "); //$NON-NLS-1$
+		buf.append(fRequestCount);
+		buf.append(" Invocations: "); //$NON-NLS-1$
+		buf.append(fInvocationCount);
+		for (int i = 0; i < fInstructions.length; i++) {
+			if (fExecutionCounts[i] == 0) {
+				continue;
+			}
+			buf.append("\n\t"); //$NON-NLS-1$
+			buf.append(i);
+			buf.append(": "); //$NON-NLS-1$
+			buf.append(getInstruction(i));
+			buf.append(" [executions: "); //$NON-NLS-1$
+			buf.append(fExecutionCounts[i]);
+			buf.append(", elapsed: "); //$NON-NLS-1$
+			buf.append(fElapsedTimes[i] / 1000);
+			buf.append("us, requests: "); //$NON-NLS-1$
+			buf.append(fRequestCounts[i]);
+			buf.append(", invocations: "); //$NON-NLS-1$
+			buf.append(fInvocationCounts[i]);
+			buf.append(']');
+		}
+		return buf.toString();
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of the compilation units generated by {@link EvaluationSourceGenerator} around code snippets.
+ * <p>
+ * Generating the compilation unit requires parsing the complete source of the enclosing type (or walking all members of the type in the target
+ * VM when no source is available). The generated unit only depends on the code snippet in one place, so the unit is remembered as a skeleton
+ * split at the snippet position and subsequent evaluations in the same context only splice their snippet in.
+ * </p>
+ * <p>
+ * Caches are owned by an evaluation engine, which clears them when the classpath changes or classes are redefined. Source based skeletons
+ * remember the source they were generated from and are not reused once that source changed.
+ * </p>
+ */
+class EvaluationSourceCache {
+
+	/**
+	 * Maximum number of skeletons retained
+	 */
+	private static final int MAX_ENTRIES = 32;
+
+	/**
+	 * A generated compilation unit without its code snippet.
+	 */
+	static class Skeleton {
+		private final String fPrefix;
+		private final String fSuffix;
+		private final String fCompilationUnitName;
+		private final int fSnippetStart;
+		private final int fRunMethodStart;
+		private final int fRunMethodLength;
+		private final boolean fTrimSnippet;
+
+		/**
+		 * @param prefix
+		 *            generated source before the code snippet
+		 * @param suffix
+		 *            generated source after the code snippet
+		 * @param compilationUnitName
+		 *            name of the generated compilation unit
+		 * @param snippetStart
+		 *            snippet start position reported by the generator
+		 * @param runMethodStart
+		 *            run method start position reported by the generator
+		 * @param runMethodLength
+		 *            length of the run method, excluding the code snippet
+		 * @param trimSnippet
+		 *            whether the generator inserts the code snippet trimmed
+		 */
+		Skeleton(String prefix, String suffix, String compilationUnitName, int snippetStart, int runMethodStart, int runMethodLength, boolean trimSnippet) {
+			fPrefix = prefix;
+			fSuffix = suffix;
+			fCompilationUnitName = compilationUnitName;
+			fSnippetStart = snippetStart;
+			fRunMethodStart = runMethodStart;
+			fRunMethodLength = runMethodLength;
+			fTrimSnippet = trimSnippet;
+		}
+
+		String getSource(String snippet) {
+			String text = fTrimSnippet ? snippet.trim() : snippet;
+			return new StringBuilder(fPrefix.length() + text.length() + fSuffix.length()).append(fPrefix).append(text).append(fSuffix).toString();
+		}
+
+		String getCompilationUnitName() {
+			return fCompilationUnitName;
+		}
+
+		int getSnippetStart() {
+			return fSnippetStart;
+		}
+
+		int getRunMethodStart() {
+			return fRunMethodStart;
+		}
+
+		int getRunMethodLength(String snippet) {
+			return fRunMethodLength + (fTrimSnippet ? snippet.trim() : snippet).length();
+		}
+	}
+
+	/**
+	 * Describes everything, other than the code snippet, the generated compilation unit depends on.
+	 */
+	static class Key {
+		private final Object fType;
+		private final String fBaseSource;
+		private final int fLine;
+		private final boolean fIsStatic;
+		private final String[] fLocalTypeNames;
+		private final String[] fLocalNames;
+		private final String fSourceLevel;
+		private final int fHashCode;
+
+		/**
+		 * @param type
+		 *            the type the snippet is compiled in, either a fully qualified name or a type of the target VM
+		 * @param baseSource
+		 *            the source the unit is generated from or <code>null</code> when generated from the target VM
+		 * @param line
+		 *            the line the snippet is evaluated at
+		 * @param isStatic
+		 *            whether the snippet is evaluated in a static context
+		 * @param localTypeNames
+		 *            types of the visible local variables
+		 * @param localNames
+		 *            names of the visible local variables
+		 * @param sourceLevel
+		 *            source level of the project
+		 */
+		Key(Object type, String baseSource, int line, boolean isStatic, String[] localTypeNames, String[] localNames, String sourceLevel) {
+			fType = type;
+			fBaseSource = baseSource;
+			fLine = line;
+			fIsStatic = isStatic;
+			fLocalTypeNames = localTypeNames;
+			fLocalNames = localNames;
+			fSourceLevel = sourceLevel;
+			fHashCode = Objects.hash(type, baseSource, line, isStatic, Arrays.hashCode(localTypeNames), Arrays.hashCode(localNames), sourceLevel);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key key) {
+				return fHashCode == key.fHashCode && fLine == key.fLine && fIsStatic == key.fIsStatic && fType.equals(key.fType)
+						&& Arrays.equals(fLocalTypeNames, key.fLocalTypeNames) && Arrays.equals(fLocalNames, key.fLocalNames)
+						&& Objects.equals(fSourceLevel, key.fSourceLevel) && Objects.equals(fBaseSource, key.fBaseSource);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+	}
+
+	private final Map<Key, Skeleton> fSkeletons = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Skeleton> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Returns the skeleton generated for the given key or <code>null</code> if none.
+	 */
+	synchronized Skeleton get(Key key) {
+		return fSkeletons.get(key);
+	}
+
+	synchronized void put(Key key, Skeleton skeleton) {
+		fSkeletons.put(key, skeleton);
+	}
+
+	synchronized void clear() {
+		fSkeletons.clear();
+	}
+}
@@ -61,15 +61,34 @@ public class EvaluationSourceGenerator {
 	private int fRunMethodStartPosition;
 	private int fRunMethodLength;
 	private final IJavaProject fJavaProject;
+	private final EvaluationSourceCache fSourceCache;
+
+	/**
+	 * Placeholder for the code snippet while generating a skeleton for the source cache
+	 */
+	private static final String SNIPPET_PLACEHOLDER = "___eval_snippet_placeholder___"; //$NON-NLS-1$
 
 	/**
 	 * Rebuild source in presence of external local variables
 	 */
 	public EvaluationSourceGenerator(String[] localVariableTypesNames,
 			String[] localVariableNames, String codeSnippet, IJavaProject javaProject) {
+		this(localVariableTypesNames, localVariableNames, codeSnippet, javaProject, null);
+	}
+
+	/**
+	 * Rebuild source in presence of external local variables, reusing sources generated for previous snippets in the same context from the given
+	 * cache.
+	 *
+	 * @param sourceCache
+	 *            cache of generated sources or <code>null</code>
+	 */
+	EvaluationSourceGenerator(String[] localVariableTypesNames,
+			String[] localVariableNames, String codeSnippet, IJavaProject javaProject, EvaluationSourceCache sourceCache) {
 		fLocalVariableTypeNames = localVariableTypesNames;
 		fLocalVariableNames = localVariableNames;
 		fJavaProject = javaProject;
+		fSourceCache = sourceCache;
 		fCodeSnippet = getCompleteSnippet(codeSnippet);
 	}
 
@@ -311,15 +330,24 @@ public class EvaluationSourceGenerator {
 	private void createEvaluationSourceFromSource(String source, IType type,
 			int line, boolean createInAStaticMethod, IJavaProject project)
 			throws DebugException {
+		String sourceLevel = project.getOption(JavaCore.COMPILER_SOURCE, true);
+		EvaluationSourceCache.Key key = null;
+		if (fSourceCache != null) {
+			key = new EvaluationSourceCache.Key(type.getFullyQualifiedName(), source, line, createInAStaticMethod, fLocalVariableTypeNames, fLocalVariableNames, sourceLevel);
+			EvaluationSourceCache.Skeleton skeleton = fSourceCache.get(key);
+			if (skeleton != null) {
+				setSource(skeleton);
+				return;
+			}
+		}
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		parser.setSource(source.toCharArray());
 		Map<String, String> options = getCompilerOptions(project);
-		String sourceLevel = project.getOption(JavaCore.COMPILER_SOURCE, true);
 		parser.setCompilerOptions(options);
 		CompilationUnit unit = (CompilationUnit) parser.createAST(null);
 		SourceBasedSourceGenerator visitor = new SourceBasedSourceGenerator(
 				type, line, createInAStaticMethod, fLocalVariableTypeNames,
-				fLocalVariableNames, fCodeSnippet, sourceLevel);
+				fLocalVariableNames, key == null ? fCodeSnippet : SNIPPET_PLACEHOLDER, sourceLevel);
 		unit.accept(visitor);
 
 		if (visitor.hasError()) {
@@ -332,6 +360,24 @@ public class EvaluationSourceGenerator {
 		if (sourceRes == null) {
 			return;
 		}
+		if (key != null) {
+			int index = sourceRes.indexOf(SNIPPET_PLACEHOLDER);
+			if (index != -1 && index == sourceRes.lastIndexOf(SNIPPET_PLACEHOLDER)) {
+				EvaluationSourceCache.Skeleton skeleton = new EvaluationSourceCache.Skeleton(sourceRes.substring(0, index),
+						sourceRes.substring(index + SNIPPET_PLACEHOLDER.length()), visitor.getCompilationUnitName(), visitor.getSnippetStart(),
+						visitor.getRunMethodStart(), visitor.getRunMethodLength() - SNIPPET_PLACEHOLDER.length(), true);
+				fSourceCache.put(key, skeleton);
+				setSource(skeleton);
+				return;
+			}
+			// the placeholder clashes with the source of the type, generate the source with the real snippet
+			visitor = new SourceBasedSourceGenerator(type, line, createInAStaticMethod, fLocalVariableTypeNames, fLocalVariableNames, fCodeSnippet, sourceLevel);
+			unit.accept(visitor);
+			sourceRes = visitor.getSource();
+			if (sourceRes == null) {
+				return;
+			}
+		}
 		setSource(sourceRes);
 		setCompilationUnitName(visitor.getCompilationUnitName());
 		setSnippetStart(visitor.getSnippetStart());
@@ -339,6 +385,17 @@ public class EvaluationSourceGenerator {
 		setRunMethodLength(visitor.getRunMethodLength());
 	}
 
+	/**
+	 * Initializes the generated source from the given skeleton, inserting the code snippet.
+	 */
+	private void setSource(EvaluationSourceCache.Skeleton skeleton) {
+		setSource(skeleton.getSource(fCodeSnippet));
+		setCompilationUnitName(skeleton.getCompilationUnitName());
+		setSnippetStart(skeleton.getSnippetStart());
+		setRunMethodStart(skeleton.getRunMethodStart());
+		setRunMethodLength(skeleton.getRunMethodLength(fCodeSnippet));
+	}
+
 	/**
 	 * Returns the compiler options used for compiling the expression.
 	 * <p>
@@ -376,6 +433,25 @@ public class EvaluationSourceGenerator {
 						fCodeSnippet).toString());
 	}
 
+	private void createEvaluationSourceFromJDIObject(JDIReferenceType referenceType, boolean isInStaticMethod, IJavaProject project) {
+		if (fSourceCache == null) {
+			createEvaluationSourceFromJDIObject(getInstanceSourceMapper(referenceType, isInStaticMethod, project));
+			return;
+		}
+		String sourceLevel = project.getOption(JavaCore.COMPILER_SOURCE, true);
+		EvaluationSourceCache.Key key = new EvaluationSourceCache.Key(referenceType, null, -1, isInStaticMethod, fLocalVariableTypeNames, fLocalVariableNames, sourceLevel);
+		EvaluationSourceCache.Skeleton skeleton = fSourceCache.get(key);
+		if (skeleton == null) {
+			BinaryBasedSourceGenerator mapper = getInstanceSourceMapper(referenceType, isInStaticMethod, project);
+			String source = mapper.getSource().toString();
+			int position = mapper.getCodeSnippetPosition();
+			skeleton = new EvaluationSourceCache.Skeleton(source.substring(0, position), source.substring(position), mapper.getCompilationUnitName(),
+					mapper.getSnippetStart(), mapper.getRunMethodStart(), mapper.getRunMethodLength(), false);
+			fSourceCache.put(key, skeleton);
+		}
+		setSource(skeleton);
+	}
+
 	private BinaryBasedSourceGenerator getInstanceSourceMapper(
 			JDIReferenceType referenceType, boolean isInStaticMethod,
 			IJavaProject project) {
@@ -404,9 +480,7 @@ public class EvaluationSourceGenerator {
 				}
 			}
 			if (fSource == null) {
-				BinaryBasedSourceGenerator mapper = getInstanceSourceMapper(
-						(JDIReferenceType) type, isStatic, javaProject);
-				createEvaluationSourceFromJDIObject(mapper);
+				createEvaluationSourceFromJDIObject((JDIReferenceType) type, isStatic, javaProject);
 			}
 		}
 		return fSource;
@@ -15,27 +15,69 @@ package org.eclipse.jdt.internal.debug.eval.ast.engine;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIFieldVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.ArrayAccess;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.ConditionalJump;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Dup;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.DupX1;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Jump;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.NoOp;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Pop;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushArrayLength;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushBoolean;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushChar;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushDouble;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushFieldVariable;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushFloat;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushInt;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushLocalVariable;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushLong;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushNull;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushStaticFieldVariable;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushString;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.PushThis;
 
+import com.sun.jdi.Field;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.Value;
 
 public class Interpreter {
+
+	/**
+	 * Instructions that neither run code in the target nor modify its state. Field values read from the target remain valid while only these
+	 * instructions execute.
+	 */
+	private static final Set<Class<? extends Instruction>> READ_ONLY_INSTRUCTIONS = Set.of(ArrayAccess.class, ConditionalJump.class, Dup.class,
+			DupX1.class, Jump.class, NoOp.class, Pop.class, PushArrayLength.class, PushBoolean.class, PushChar.class, PushDouble.class,
+			PushFieldVariable.class, PushFloat.class, PushInt.class, PushLocalVariable.class, PushLong.class, PushNull.class,
+			PushStaticFieldVariable.class, PushString.class, PushThis.class);
+
 	private final Instruction[] fInstructions;
 	private int fInstructionCounter;
 	private final IRuntimeContext fContext;
@@ -52,22 +94,76 @@ public class Interpreter {
 	 */
 	private List<IJavaObject> fPermStorage = null;
 
-	private boolean fStopped = false;
+	private volatile boolean fStopped = false;
+
+	/**
+	 * Names of the instance fields and static fields accessed by the instructions. When one of these fields is read, the values of all fields
+	 * with these names in the same object or type are retrieved with a single request.
+	 */
+	private final Set<String> fInstanceFieldNames = new HashSet<>();
+	private final Set<String> fStaticFieldNames = new HashSet<>();
+
+	/**
+	 * Field values retrieved from the target, by object (or by type for static fields). Cleared whenever an instruction executes that may run
+	 * code in the target or modify its state.
+	 */
+	private final Map<Object, Map<Field, Value>> fFieldValues = new HashMap<>();
+
+	/**
+	 * Profile recording the costs of the instructions, or <code>null</code> if the evaluation is not profiled.
+	 */
+	private EvaluationProfile fProfile;
 
 	public Interpreter(InstructionSequence instructions, IRuntimeContext context) {
 		fInstructions = instructions.getInstructions();
 		fContext = context;
 		fInternalVariables = new HashMap<>();
+		for (Instruction instruction : fInstructions) {
+			if (instruction instanceof PushFieldVariable field) {
+				fInstanceFieldNames.add(field.getFieldName());
+			} else if (instruction instanceof PushStaticFieldVariable field) {
+				fStaticFieldNames.add(field.getFieldName());
+			}
+		}
+	}
+
+	/**
+	 * Returns a profile recording the costs of the instructions executed by this interpreter. Must be called before {@link #execute(boolean)}.
+	 *
+	 * @return profile of the evaluation
+	 */
+	public EvaluationProfile createProfile() {
+		if (fProfile == null) {
+			IJavaThread thread = fContext.getThread();
+			fProfile = new EvaluationProfile(fInstructions, thread instanceof JDIThread ? (JDIThread) thread : null);
+		}
+		return fProfile;
 	}
 
 	public void execute(boolean disableGcOnResult) throws CoreException {
+		if (fProfile != null) {
+			fProfile.evaluationStarted();
+		}
 		try {
 			reset();
 			while (fInstructionCounter < fInstructions.length && !fStopped) {
-				Instruction instruction = fInstructions[fInstructionCounter++];
+				int index = fInstructionCounter++;
+				Instruction instruction = fInstructions[index];
 				instruction.setInterpreter(this);
-				instruction.execute();
+				if (fProfile == null) {
+					instruction.execute();
+				} else {
+					fProfile.instructionStarted();
+					try {
+						instruction.execute();
+					} finally {
+						fProfile.instructionFinished(index);
+					}
+				}
 				instruction.setInterpreter(null);
+				if (!READ_ONLY_INSTRUCTIONS.contains(instruction.getClass())) {
+					fFieldValues.clear();
+				}
 			}
 		} catch (CoreException e) {
 			throw e;
@@ -76,6 +172,9 @@ public class Interpreter {
 					JDIDebugModel.getPluginIdentifier(), e.getMessage(), e));
 		} finally {
 			releaseObjects(disableGcOnResult);
+			if (fProfile != null) {
+				fProfile.evaluationFinished();
+			}
 		}
 	}
 
@@ -86,6 +185,59 @@ public class Interpreter {
 	private void reset() {
 		fStack = new Stack<>();
 		fInstructionCounter = 0;
+		fFieldValues.clear();
+	}
+
+	/**
+	 * Returns the current value of the given field variable. Values are retrieved in batches: reading a field retrieves all fields of the same
+	 * object (or type, for static fields) accessed by this evaluation, and subsequent reads are answered locally until the target may have
+	 * changed.
+	 *
+	 * @param variable
+	 *            field variable
+	 * @return the value of the field
+	 * @throws DebugException
+	 *             if the value cannot be retrieved
+	 */
+	public IJavaValue getFieldValue(JDIFieldVariable variable) throws DebugException {
+		Field field = variable.getField();
+		try {
+			Object owner;
+			ReferenceType type;
+			Set<String> names;
+			if (field.isStatic()) {
+				type = variable.getReferenceType();
+				owner = type;
+				names = fStaticFieldNames;
+			} else {
+				ObjectReference object = variable.getObjectReference();
+				owner = object;
+				type = object.referenceType();
+				names = fInstanceFieldNames;
+			}
+			Map<Field, Value> values = fFieldValues.get(owner);
+			if (values == null || !values.containsKey(field)) {
+				List<Field> fields = new ArrayList<>(names.size() + 1);
+				fields.add(field);
+				for (String name : names) {
+					Field other = type.fieldByName(name);
+					if (other != null && !other.equals(field) && other.isStatic() == field.isStatic()) {
+						fields.add(other);
+					}
+				}
+				Map<Field, Value> retrieved = owner instanceof ObjectReference object ? object.getValues(fields) : type.getValues(fields);
+				if (values == null) {
+					values = new HashMap<>(retrieved);
+					fFieldValues.put(owner, values);
+				} else {
+					values.putAll(retrieved);
+				}
+			}
+			return JDIValue.createValue((JDIDebugTarget) variable.getDebugTarget(), values.get(field));
+		} catch (RuntimeException e) {
+			// let the variable retrieve (and report failures for) its own value
+			return (IJavaValue) variable.getValue();
+		}
 	}
 
 	/**
@@ -27,6 +27,7 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIFieldVariable;
 import org.eclipse.jdt.internal.debug.eval.ast.engine.IRuntimeContext;
 import org.eclipse.jdt.internal.debug.eval.ast.engine.Interpreter;
 import org.eclipse.osgi.util.NLS;
@@ -109,6 +110,9 @@ public abstract class Instruction {
 
 	protected IJavaValue popValue() throws CoreException {
 		Object element = fInterpreter.pop();
+		if (element instanceof JDIFieldVariable) {
+			return fInterpreter.getFieldValue((JDIFieldVariable) element);
+		}
 		if (element instanceof IJavaVariable) {
 			return (IJavaValue) ((IJavaVariable) element).getValue();
 		}
@@ -50,6 +50,13 @@ public class PushFieldVariable extends CompoundInstruction {
 		fDeclaringTypeSignature = declaringTypeSignature;
 	}
 
+	/**
+	 * Returns the name of the field pushed by this instruction.
+	 */
+	public String getFieldName() {
+		return fName;
+	}
+
 	@Override
 	public void execute() throws CoreException {
 		Object value = popValue();
@@ -39,6 +39,13 @@ public class PushStaticFieldVariable extends CompoundInstruction {
 		fQualifiedTypeName = qualifiedTypeName;
 	}
 
+	/**
+	 * Returns the name of the field pushed by this instruction.
+	 */
+	public String getFieldName() {
+		return fFieldName;
+	}
+
 	@Override
 	public void execute() throws CoreException {
 		IJavaType receiver = getType(fQualifiedTypeName);
@@ -17,6 +17,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -94,43 +95,12 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	public List<Value> getValues(int firstIndex, int length)
 			throws IndexOutOfBoundsException {
 
-		int arrayLength = length();
-
-		if (firstIndex < 0 || firstIndex >= arrayLength) {
-			throw new IndexOutOfBoundsException(
-					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
-		}
-
-		if (length == -1) {
-			// length == -1 means all elements to the end.
-			length = arrayLength - firstIndex;
-		} else if (length < -1) {
-			throw new IndexOutOfBoundsException(
-					JDIMessages.ArrayReferenceImpl_Invalid_number_of_value_to_get_from_array_1);
-		} else if (firstIndex + length > arrayLength) {
-			throw new IndexOutOfBoundsException(
-					JDIMessages.ArrayReferenceImpl_Attempted_to_get_more_values_from_array_than_length_of_array_2);
-		}
+		length = checkGetRange(firstIndex, length);
 
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			write(this, outData); // arrayObject
-			writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
-			writeInt(length, "length", outData); //$NON-NLS-1$
-
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.AR_GET_VALUES, outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_INDEX:
-				throw new IndexOutOfBoundsException(
-						JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
+			DataInputStream replyData = requestValues(firstIndex, length);
 
 			/*
 			 * NOTE: The JDWP documentation is not clear on this: it turns out
@@ -179,6 +149,202 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Returns the components of this array starting at <code>firstIndex</code>
+	 * in a Java array of the primitive component type of this array, such as an
+	 * <code>int[]</code> for an array of <code>int</code>, decoded directly from
+	 * the reply of the VM without creating a value per component.
+	 *
+	 * @param firstIndex
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components, or <code>-1</code> for all the
+	 *            components to the end of the array
+	 * @return array of primitive values, or <code>null</code> if the component
+	 *         type of this array is not a primitive type
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is outside the bounds of the array
+	 */
+	public Object getPrimitiveValues(int firstIndex, int length)
+			throws IndexOutOfBoundsException {
+		String componentSignature = ((ArrayTypeImpl) referenceType()).componentSignature();
+		if (componentSignature.length() != 1) {
+			return null;
+		}
+		length = checkGetRange(firstIndex, length);
+
+		initJdwpRequest();
+		try {
+			DataInputStream replyData = requestValues(firstIndex, length);
+			return readPrimitiveValues(replyData);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Decodes the reply of a request for components of an array of a
+	 * primitive type.
+	 *
+	 * @param replyData
+	 *            reply data of an <code>ArrayReference.GetValues</code> request
+	 * @return array of the primitive values
+	 * @throws IOException
+	 *             if reading from the stream encounters a problem
+	 */
+	private Object readPrimitiveValues(DataInputStream replyData) throws IOException {
+		int type = readByte("type", JdwpID.tagMap(), replyData); //$NON-NLS-1$
+		int readLength = readInt("length", replyData); //$NON-NLS-1$
+		switch (type) {
+		case BooleanValueImpl.tag: {
+			byte[] bytes = readByteArray(readLength, "values", replyData); //$NON-NLS-1$
+			boolean[] values = new boolean[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = bytes[i] != 0;
+			}
+			return values;
+		}
+		case ByteValueImpl.tag:
+			return readByteArray(readLength, "values", replyData); //$NON-NLS-1$
+		case CharValueImpl.tag: {
+			char[] values = new char[readLength];
+			readBuffer(readLength, Character.BYTES, replyData).asCharBuffer().get(values);
+			return values;
+		}
+		case ShortValueImpl.tag: {
+			short[] values = new short[readLength];
+			readBuffer(readLength, Short.BYTES, replyData).asShortBuffer().get(values);
+			return values;
+		}
+		case IntegerValueImpl.tag: {
+			int[] values = new int[readLength];
+			readBuffer(readLength, Integer.BYTES, replyData).asIntBuffer().get(values);
+			return values;
+		}
+		case LongValueImpl.tag: {
+			long[] values = new long[readLength];
+			readBuffer(readLength, Long.BYTES, replyData).asLongBuffer().get(values);
+			return values;
+		}
+		case FloatValueImpl.tag: {
+			float[] values = new float[readLength];
+			readBuffer(readLength, Float.BYTES, replyData).asFloatBuffer().get(values);
+			return values;
+		}
+		case DoubleValueImpl.tag: {
+			double[] values = new double[readLength];
+			readBuffer(readLength, Double.BYTES, replyData).asDoubleBuffer().get(values);
+			return values;
+		}
+		default:
+			throw new InternalException(
+					JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
+							+ type);
+		}
+	}
+
+	/**
+	 * Retrieves the first components of each of the given arrays of a
+	 * primitive type, sending all requests before reading the first reply.
+	 *
+	 * @param mirror
+	 *            mirror of the VM of the arrays
+	 * @param arrays
+	 *            arrays of a primitive type, each at least as long as the
+	 *            given length
+	 * @param length
+	 *            number of components to retrieve from each array
+	 * @return Java arrays of the primitive values, in the order of the
+	 *         arrays, with <code>null</code> for an array whose request
+	 *         failed
+	 * @throws IOException
+	 *             if a reply cannot be read
+	 */
+	static Object[] getPrimitivePrefixes(MirrorImpl mirror, List<ArrayReferenceImpl> arrays, int length) throws IOException {
+		JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.AR_GET_VALUES, arrays, (array, out) -> {
+			array.write(mirror, out);
+			mirror.writeInt(0, "firstIndex", out); //$NON-NLS-1$
+			mirror.writeInt(length, "length", out); //$NON-NLS-1$
+		});
+		Object[] values = new Object[replies.length];
+		for (int i = 0; i < replies.length; i++) {
+			if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+				values[i] = arrays.get(i).readPrimitiveValues(replies[i].dataInStream());
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Reads the given number of components of the given size from the given
+	 * stream, in the big-endian order of Jdwp.
+	 */
+	private ByteBuffer readBuffer(int length, int size, DataInputStream in)
+			throws IOException {
+		return ByteBuffer.wrap(readByteArray(length * size, "values", in)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Checks the range of components to get and returns the number of
+	 * components to get.
+	 *
+	 * @param firstIndex
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components, or <code>-1</code> for all the
+	 *            components to the end of the array
+	 * @return the number of components
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is outside the bounds of the array
+	 */
+	private int checkGetRange(int firstIndex, int length) {
+		int arrayLength = length();
+
+		if (firstIndex < 0 || firstIndex >= arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
+		}
+
+		if (length == -1) {
+			// length == -1 means all elements to the end.
+			return arrayLength - firstIndex;
+		} else if (length < -1) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_number_of_value_to_get_from_array_1);
+		} else if (firstIndex + length > arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Attempted_to_get_more_values_from_array_than_length_of_array_2);
+		}
+		return length;
+	}
+
+	/**
+	 * Requests the given range of components from the VM and returns the
+	 * reply data.
+	 */
+	private DataInputStream requestValues(int firstIndex, int length)
+			throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		write(this, outData); // arrayObject
+		writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
+		writeInt(length, "length", outData); //$NON-NLS-1$
+
+		JdwpReplyPacket replyPacket = requestVM(
+				JdwpCommandPacket.AR_GET_VALUES, outBytes);
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_INDEX:
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		return replyPacket.dataInStream();
+	}
+
 	/**
 	 * Reads the given length of objects from the given stream
 	 * @param length the number of objects to read
@@ -219,6 +385,35 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		return elements;
 	}
 
+	/**
+	 * Retrieves the lengths of the given arrays that are not known yet, sending
+	 * all requests before reading the first reply.
+	 *
+	 * @param mirror
+	 *            mirror of the VM of the arrays
+	 * @param arrays
+	 *            arrays
+	 * @throws IOException
+	 *             if a reply cannot be read
+	 */
+	static void prefetchLengths(MirrorImpl mirror, List<ArrayReferenceImpl> arrays) throws IOException {
+		List<ArrayReferenceImpl> unknown = new ArrayList<>();
+		for (ArrayReferenceImpl array : arrays) {
+			if (array.fLength == -1) {
+				unknown.add(array);
+			}
+		}
+		if (unknown.isEmpty()) {
+			return;
+		}
+		JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.AR_LENGTH, unknown, (object, out) -> object.write(mirror, out));
+		for (int i = 0; i < replies.length; i++) {
+			if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+				unknown.get(i).fLength = mirror.readInt("length", replies[i].dataInStream()); //$NON-NLS-1$
+			}
+		}
+	}
+
 	/**
 	 * @return Returns the number of components in this array.
 	 */
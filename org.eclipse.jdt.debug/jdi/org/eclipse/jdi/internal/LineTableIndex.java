@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
+
+/**
+ * Line number tables of the methods of a reference type, held in primitive arrays. The virtual machine keeps the index of a type for as long as
+ * the type is loaded, whereas the mirror of the type is only cached softly, so that the line tables are not requested again when the mirror is
+ * evicted. Once the tables of all the methods of the type are known, the index also maps each line to the methods having code for it, so that
+ * locating a line only looks at these methods.
+ * <p>
+ * The index holds the lines of the Java stratum. Lines of other strata are mapped to lines of the Java stratum by the source map of the type.
+ * </p>
+ */
+public class LineTableIndex {
+
+	/**
+	 * Line table of a method, as returned by the VM
+	 */
+	static class MethodLineTable {
+		/**
+		 * Table of a method without line information
+		 */
+		static final MethodLineTable ABSENT = new MethodLineTable(-1, -1, null, null);
+
+		final long fLowestCodeIndex;
+		final long fHighestCodeIndex;
+		/**
+		 * Code indices and lines of the entries of the table, or <code>null</code> if the method has no line information
+		 */
+		final long[] fCodeIndexes;
+		final int[] fLines;
+
+		MethodLineTable(long lowestCodeIndex, long highestCodeIndex, long[] codeIndexes, int[] lines) {
+			fLowestCodeIndex = lowestCodeIndex;
+			fHighestCodeIndex = highestCodeIndex;
+			fCodeIndexes = codeIndexes;
+			fLines = lines;
+		}
+
+		boolean hasLineInformation() {
+			return fCodeIndexes != null && fCodeIndexes.length > 0;
+		}
+	}
+
+	/**
+	 * Signature of the type, to detect the reuse of the type ID by another type
+	 */
+	private final String fSignature;
+
+	private final Map<JdwpMethodID, MethodLineTable> fTables = new HashMap<>();
+
+	/**
+	 * Sorted lines having code in a method of the type and, for each of these, the method having the code, or <code>null</code> until the tables
+	 * of all methods are known
+	 */
+	private int[] fLines;
+	private JdwpMethodID[] fLineMethods;
+
+	/**
+	 * Whether the type has methods with code, none of which has line information, once the lines are indexed
+	 */
+	private boolean fLineInformationAbsent;
+
+	LineTableIndex(String signature) {
+		fSignature = signature;
+	}
+
+	String getSignature() {
+		return fSignature;
+	}
+
+	/**
+	 * Returns the line table of the given method, or <code>null</code> if it is not known.
+	 */
+	synchronized MethodLineTable getTable(JdwpMethodID methodID) {
+		return fTables.get(methodID);
+	}
+
+	synchronized void putTable(JdwpMethodID methodID, MethodLineTable table) {
+		fTables.put(methodID, table);
+		fLines = null;
+		fLineMethods = null;
+	}
+
+	/**
+	 * Indexes the lines of the given methods, provided their line tables are all known.
+	 *
+	 * @param methodIDs
+	 *            the methods with code of the type
+	 */
+	synchronized void indexLines(Collection<JdwpMethodID> methodIDs) {
+		if (fLines != null) {
+			return;
+		}
+		int count = 0;
+		for (JdwpMethodID methodID : methodIDs) {
+			MethodLineTable table = fTables.get(methodID);
+			if (table == null) {
+				return;
+			}
+			if (table.hasLineInformation()) {
+				count += table.fLines.length;
+			}
+		}
+		JdwpMethodID[] methods = methodIDs.toArray(new JdwpMethodID[methodIDs.size()]);
+		// sort the lines with the ordinal of their method, dropping duplicate entries
+		long[] entries = new long[count];
+		int next = 0;
+		for (int ordinal = 0; ordinal < methods.length; ordinal++) {
+			MethodLineTable table = fTables.get(methods[ordinal]);
+			if (table.hasLineInformation()) {
+				for (int line : table.fLines) {
+					entries[next++] = ((long) line << 32) | ordinal;
+				}
+			}
+		}
+		Arrays.sort(entries);
+		int[] lines = new int[count];
+		JdwpMethodID[] lineMethods = new JdwpMethodID[count];
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			if (i > 0 && entries[i] == entries[i - 1]) {
+				continue;
+			}
+			lines[size] = (int) (entries[i] >> 32);
+			lineMethods[size] = methods[(int) entries[i]];
+			size++;
+		}
+		fLines = Arrays.copyOf(lines, size);
+		fLineMethods = Arrays.copyOf(lineMethods, size);
+		fLineInformationAbsent = methods.length > 0 && count == 0;
+	}
+
+	/**
+	 * Returns whether the type has methods with code, none of which has line information. Only valid when the lines are indexed.
+	 */
+	synchronized boolean isLineInformationAbsent() {
+		return fLineInformationAbsent;
+	}
+
+	/**
+	 * Returns the methods having code for any of the given lines of the Java stratum, or <code>null</code> if the lines are not indexed.
+	 *
+	 * @param javaLines
+	 *            lines of the Java stratum
+	 * @return the methods having code for the lines or <code>null</code>
+	 */
+	synchronized Set<JdwpMethodID> getMethods(List<Integer> javaLines) {
+		if (fLines == null) {
+			return null;
+		}
+		Set<JdwpMethodID> methods = new HashSet<>();
+		for (Integer javaLine : javaLines) {
+			int line = javaLine.intValue();
+			int position = Arrays.binarySearch(fLines, line);
+			if (position < 0) {
+				continue;
+			}
+			while (position > 0 && fLines[position - 1] == line) {
+				position--;
+			}
+			for (; position < fLines.length && fLines[position] == line; position++) {
+				methods.add(fLineMethods[position]);
+			}
+		}
+		return methods;
+	}
+}
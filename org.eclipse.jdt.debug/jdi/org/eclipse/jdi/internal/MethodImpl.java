@@ -38,6 +38,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassLoaderReference;
 import com.sun.jdi.ClassNotLoadedException;
+import com.sun.jdi.InternalException;
 import com.sun.jdi.LocalVariable;
 import com.sun.jdi.Locatable;
 import com.sun.jdi.Location;
@@ -140,7 +141,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	}
 
 	/**
-	 * Gets line table from VM.
+	 * Gets line table from the index of the declaring type, or from VM if it is not known.
 	 */
 	private void getLineTable() throws AbsentInformationException {
 		if (isObsolete()) {
@@ -154,6 +155,49 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return;
 		}
 
+		LineTableIndex index = virtualMachineImpl().getLineTableIndex(referenceTypeImpl());
+		LineTableIndex.MethodLineTable table = index.getTable(fMethodID);
+		if (table == null) {
+			table = requestLineTable();
+			index.putTable(fMethodID, table);
+		}
+		if (table.fCodeIndexes == null) {
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_No_line_number_information_available_2);
+		}
+
+		fLowestValidCodeIndex = table.fLowestCodeIndex;
+		fHighestValidCodeIndex = table.fHighestCodeIndex;
+		fCodeIndexTable = table.fCodeIndexes;
+		fJavaStratumLineNumberTable = table.fLines;
+		fCodeIndexToLine = new HashMap<>();
+		fLineToCodeIndexes = new HashMap<>();
+		if (fCodeIndexTable.length == 0) {
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
+		}
+		for (int i = 0; i < fCodeIndexTable.length; i++) {
+			Long lineCodeIndexLong = Long.valueOf(fCodeIndexTable[i]);
+			Integer lineNrInt = Integer.valueOf(fJavaStratumLineNumberTable[i]);
+
+			// Add entry to code-index to line mapping.
+			fCodeIndexToLine.put(lineCodeIndexLong, lineNrInt);
+
+			List<Long> lineNrEntry = fLineToCodeIndexes.get(lineNrInt);
+			if (lineNrEntry == null) {
+				lineNrEntry = new ArrayList<>();
+				fLineToCodeIndexes.put(lineNrInt, lineNrEntry);
+			}
+			lineNrEntry.add(lineCodeIndexLong);
+		}
+	}
+
+	/**
+	 * Requests the line table of this method from VM.
+	 *
+	 * @return the line table, without line information if the method has none
+	 */
+	private LineTableIndex.MethodLineTable requestLineTable() {
 		initJdwpRequest();
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
@@ -164,49 +208,24 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 					JdwpCommandPacket.M_LINE_TABLE, outBytes);
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.ABSENT_INFORMATION:
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_No_line_number_information_available_2);
 			case JdwpReplyPacket.NATIVE_METHOD:
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_No_line_number_information_available_2);
+				return LineTableIndex.MethodLineTable.ABSENT;
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
-			fLowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
-			fHighestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
+			long lowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
+			long highestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			fCodeIndexToLine = new HashMap<>();
-			fLineToCodeIndexes = new HashMap<>();
-			if (nrOfElements == 0) {
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
-			}
-			fCodeIndexTable = new long[nrOfElements];
-			fJavaStratumLineNumberTable = new int[nrOfElements];
+			long[] codeIndexTable = new long[nrOfElements];
+			int[] lineNumberTable = new int[nrOfElements];
 			for (int i = 0; i < nrOfElements; i++) {
-				long lineCodeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				Long lineCodeIndexLong = Long.valueOf(lineCodeIndex);
-				int lineNr = readInt("line nr", replyData); //$NON-NLS-1$
-				Integer lineNrInt = Integer.valueOf(lineNr);
-
-				// Add entry to code-index to line mapping.
-				fCodeIndexToLine.put(lineCodeIndexLong, lineNrInt);
-
-				fCodeIndexTable[i] = lineCodeIndex;
-				fJavaStratumLineNumberTable[i] = lineNr;
-
-				List<Long> lineNrEntry = fLineToCodeIndexes.get(lineNrInt);
-				if (lineNrEntry == null) {
-					lineNrEntry = new ArrayList<>();
-					fLineToCodeIndexes.put(lineNrInt, lineNrEntry);
-				}
-				lineNrEntry.add(lineCodeIndexLong);
+				codeIndexTable[i] = readLong("code index", replyData); //$NON-NLS-1$
+				lineNumberTable[i] = readInt("line nr", replyData); //$NON-NLS-1$
 			}
+			return new LineTableIndex.MethodLineTable(lowestValidCodeIndex, highestValidCodeIndex, codeIndexTable, lineNumberTable);
 		} catch (IOException e) {
-			fCodeIndexToLine = null;
-			fLineToCodeIndexes = null;
-			defaultIOExceptionHandler(e);
+			throw new InternalException(JDIMessages.MirrorImpl_Got_invalid_data___2 + e);
 		} finally {
 			handledJdwpRequest();
 		}
@@ -19,6 +19,8 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdi.Bootstrap;
@@ -60,6 +62,10 @@ public class MirrorImpl implements Mirror {
 	 * yet (fully) processed.
 	 */
 	private boolean fPendingJdwpRequest = false;
+	/**
+	 * Number of Jdwp requests sent to any VM by each thread.
+	 */
+	private static final ThreadLocal<int[]> fgRequestCount = ThreadLocal.withInitial(() -> new int[1]);
 
 	/**
 	 * Constructor only to be used by Virtual Machine objects: stores
@@ -190,19 +196,59 @@ public class MirrorImpl implements Mirror {
 		fPendingJdwpRequest = false;
 	}
 
+	/**
+	 * Returns the number of Jdwp requests the calling thread has sent so far.
+	 * Clients compare the counts before and after an operation to find out how
+	 * many round trips to the VM the operation required.
+	 *
+	 * @return number of Jdwp requests sent by the calling thread
+	 */
+	public static int getRequestCount() {
+		return fgRequestCount.get()[0];
+	}
+
 	/**
 	 * Performs a VM request.
 	 *
 	 * @return Returns reply data.
 	 */
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
+		long sent = System.currentTimeMillis();
+		JdwpCommandPacket commandPacket = sendCommandPacket(command, outData);
+		return receiveReplyPacket(commandPacket, sent);
+	}
+
+	/**
+	 * Performs VM requests of the same command for each of the given data.
+	 * All commands are sent before waiting for the first reply, so that the
+	 * requests cost a single round trip to the VM.
+	 *
+	 * @return Returns reply data, in the order of the given data.
+	 */
+	public JdwpReplyPacket[] requestVM(int command, List<byte[]> outData) {
+		long sent = System.currentTimeMillis();
+		JdwpCommandPacket[] commandPackets = new JdwpCommandPacket[outData.size()];
+		for (int i = 0; i < commandPackets.length; i++) {
+			commandPackets[i] = sendCommandPacket(command, outData.get(i));
+		}
+		JdwpReplyPacket[] replies = new JdwpReplyPacket[commandPackets.length];
+		for (int i = 0; i < commandPackets.length; i++) {
+			replies[i] = receiveReplyPacket(commandPackets[i], sent);
+		}
+		return replies;
+	}
+
+	private JdwpCommandPacket sendCommandPacket(int command, byte[] outData) {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
-		long sent = System.currentTimeMillis();
+		fgRequestCount.get()[0]++;
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
+		return commandPacket;
+	}
 
+	private JdwpReplyPacket receiveReplyPacket(JdwpCommandPacket commandPacket, long sent) {
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
 		long recieved = System.currentTimeMillis();
@@ -258,6 +304,36 @@ public class MirrorImpl implements Mirror {
 		return requestVM(command, byteOutStream);
 	}
 
+	/**
+	 * Writes the data of the request for one of several mirrors.
+	 */
+	@FunctionalInterface
+	public interface RequestWriter<T> {
+		void write(T mirror, DataOutputStream out) throws IOException;
+	}
+
+	/**
+	 * Performs VM requests of the same command for each of the given mirrors,
+	 * with the data written by the given writer. All commands are sent before
+	 * waiting for the first reply.
+	 *
+	 * @return Returns reply data, in the order of the given mirrors.
+	 */
+	public <T> JdwpReplyPacket[] requestVMForEach(int command, List<? extends T> mirrors, RequestWriter<? super T> writer) {
+		List<byte[]> outData = new ArrayList<>(mirrors.size());
+		for (T mirror : mirrors) {
+			ByteArrayOutputStream byteOutStream = new ByteArrayOutputStream();
+			DataOutputStream dataOutStream = new DataOutputStream(byteOutStream);
+			try {
+				writer.write(mirror, dataOutStream);
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+			}
+			outData.add(byteOutStream.toByteArray());
+		}
+		return requestVM(command, outData);
+	}
+
 	/**
 	 * Performs a VM request for a specified object.
 	 *
@@ -20,8 +20,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
@@ -344,6 +346,61 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Returns the values of the given instance fields of each of the given
+	 * objects. The requests are sent before the first reply is read, so that
+	 * any number of objects costs a single round trip to the VM.
+	 *
+	 * @param objects
+	 *            objects of the same VM, each having all the given fields
+	 * @param fields
+	 *            non-static fields
+	 * @return values of the fields of each object, in the order of the objects
+	 */
+	public static List<Map<Field, Value>> getFieldValues(List<? extends ObjectReference> objects, List<? extends Field> fields) {
+		List<Map<Field, Value>> result = new ArrayList<>(objects.size());
+		if (objects.isEmpty()) {
+			return result;
+		}
+		MirrorImpl mirror = (MirrorImpl) objects.get(0);
+		mirror.initJdwpRequest();
+		try {
+			for (ObjectReference object : objects) {
+				mirror.checkVM(object);
+			}
+			for (Field field : fields) {
+				mirror.checkVM(field);
+			}
+			JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.OR_GET_VALUES, objects, (object, out) -> {
+				((ObjectReferenceImpl) object).write(mirror, out);
+				mirror.writeInt(fields.size(), "size", out); //$NON-NLS-1$
+				for (Field field : fields) {
+					((FieldImpl) field).write(mirror, out);
+				}
+			});
+			for (JdwpReplyPacket reply : replies) {
+				mirror.defaultReplyErrorHandler(reply.errorCode());
+				DataInputStream replyData = reply.dataInStream();
+				int nrOfElements = mirror.readInt("elements", replyData); //$NON-NLS-1$
+				if (nrOfElements != fields.size()) {
+					throw new InternalError(
+							JDIMessages.ObjectReferenceImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
+				}
+				Map<Field, Value> values = new HashMap<>();
+				for (Field field : fields) {
+					values.put(field, ValueImpl.readWithTag(mirror, replyData));
+				}
+				result.add(values);
+			}
+			return result;
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * @return Returns the hash code value.
 	 */
@@ -539,6 +596,66 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Retrieves what the labels of the given objects display and is not known
+	 * yet: the type of each object with its generic signature, the length of
+	 * each array and the first characters of each string. Requests of the
+	 * same command are sent before the first reply is read, so that any number
+	 * of objects costs a few round trips to the VM, plus one for each string
+	 * longer than the maximum length. Objects whose request fails, for
+	 * instance because they were collected, are skipped.
+	 *
+	 * @param objects
+	 *            objects of the same VM
+	 * @param maxLength
+	 *            maximum number of characters of strings to retrieve, or 0 for
+	 *            no maximum
+	 */
+	public static void prefetchLabels(List<? extends ObjectReferenceImpl> objects, int maxLength) {
+		if (objects.isEmpty()) {
+			return;
+		}
+		MirrorImpl mirror = objects.get(0);
+		mirror.initJdwpRequest();
+		try {
+			List<ObjectReferenceImpl> untyped = new ArrayList<>();
+			for (ObjectReferenceImpl object : objects) {
+				if (object.fReferenceType == null) {
+					untyped.add(object);
+				}
+			}
+			if (!untyped.isEmpty()) {
+				JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.OR_REFERENCE_TYPE, untyped, (object, out) -> object.write(mirror, out));
+				for (int i = 0; i < replies.length; i++) {
+					if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+						ObjectReferenceImpl object = untyped.get(i);
+						object.fReferenceType = ReferenceTypeImpl.readWithTypeTag(object, replies[i].dataInStream());
+					}
+				}
+			}
+			Set<ReferenceTypeImpl> types = new LinkedHashSet<>();
+			List<ArrayReferenceImpl> arrays = new ArrayList<>();
+			List<StringReferenceImpl> strings = new ArrayList<>();
+			for (ObjectReferenceImpl object : objects) {
+				if (object.fReferenceType instanceof ReferenceTypeImpl) {
+					types.add((ReferenceTypeImpl) object.fReferenceType);
+				}
+				if (object instanceof ArrayReferenceImpl) {
+					arrays.add((ArrayReferenceImpl) object);
+				} else if (object instanceof StringReferenceImpl) {
+					strings.add((StringReferenceImpl) object);
+				}
+			}
+			ReferenceTypeImpl.prefetchGenericSignatures(mirror, types);
+			ArrayReferenceImpl.prefetchLengths(mirror, arrays);
+			StringReferenceImpl.prefetchValues(mirror, strings, maxLength);
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * @return Returns the Type that mirrors the type of this object.
 	 */
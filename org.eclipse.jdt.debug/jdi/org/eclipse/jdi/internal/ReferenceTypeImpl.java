@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -443,6 +444,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fVisibleFields = null;
 		fAllInterfaces = null;
 		fStratumAllLineLocations = null;
+		virtualMachineImpl().removeLineTableIndex(fReferenceTypeID);
 		fSourceName = null;
 		fModifierBits = -1;
 		fClassLoader = null;
@@ -1641,8 +1643,25 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<Location> locationsOfLine(String stratum, String sourceName, int lineNumber) throws AbsentInformationException {
-		Iterator<Method> allMethods = methods().iterator();
+		List<Integer> javaLines = javaStratumLines(stratum, sourceName, lineNumber);
+		LineTableIndex index = virtualMachineImpl().getLineTableIndex(this);
+		Set<JdwpMethodID> lineMethods = index.getMethods(javaLines);
 		List<Location> locations = new ArrayList<>();
+		if (lineMethods != null) {
+			// only look at the methods having code for the lines
+			if (index.isLineInformationAbsent()) {
+				throw new AbsentInformationException(JDIMessages.MethodImpl_No_line_number_information_available_2);
+			}
+			for (Method method : methods()) {
+				MethodImpl methodImpl = (MethodImpl) method;
+				if (lineMethods.contains(methodImpl.getMethodID())) {
+					locations.addAll(methodImpl.javaStratumLocationsOfLines(javaLines));
+				}
+			}
+			return locations;
+		}
+		Iterator<Method> allMethods = methods().iterator();
+		List<JdwpMethodID> methodIDs = new ArrayList<>();
 		boolean hasLineInformation = false;
 		AbsentInformationException exception = null;
 		while (allMethods.hasNext()) {
@@ -1650,16 +1669,18 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			if (method.isAbstract() || method.isNative()) {
 				continue;
 			}
+			methodIDs.add(method.getMethodID());
 			// one line in the input source can be translate in multiple lines
 			// in different
 			// methods in the output source. We need all these locations.
 			try {
-				locations.addAll(locationsOfLine(stratum, sourceName, lineNumber, method));
+				locations.addAll(method.javaStratumLocationsOfLines(javaLines));
 				hasLineInformation = true;
 			} catch (AbsentInformationException e) {
 				exception = e;
 			}
 		}
+		index.indexLines(methodIDs);
 		if (!hasLineInformation && exception != null) {
 			throw exception;
 		}
@@ -1999,6 +2020,17 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 *             if the specified sourceName is not valid.
 	 */
 	public List<Location> locationsOfLine(String stratumId, String sourceName, int lineNumber, MethodImpl method)	throws AbsentInformationException {
+		return method.javaStratumLocationsOfLines(javaStratumLines(stratumId, sourceName, lineNumber));
+	}
+
+	/**
+	 * Return the lines of the Java stratum the given line of the given source
+	 * file of the given stratum is translated to.
+	 *
+	 * @throws AbsentInformationException
+	 *             if the specified sourceName is not valid.
+	 */
+	private List<Integer> javaStratumLines(String stratumId, String sourceName, int lineNumber) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
 		List<Integer> javaLines = new ArrayList<>();
 		if (stratum != null) {
@@ -2015,7 +2047,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} else { // Java stratum
 			javaLines.add(Integer.valueOf(lineNumber));
 		}
-		return method.javaStratumLocationsOfLines(javaLines);
+		return javaLines;
 	}
 
 	/**
@@ -2128,6 +2160,41 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		return fGenericSignature;
 	}
 
+	/**
+	 * Retrieves the signatures and generic signatures of the given types that
+	 * are not known yet, sending all requests before reading the first reply.
+	 *
+	 * @param mirror
+	 *            mirror of the VM of the types
+	 * @param refTypes
+	 *            types
+	 * @throws IOException
+	 *             if a reply cannot be read
+	 */
+	static void prefetchGenericSignatures(MirrorImpl mirror, Collection<ReferenceTypeImpl> refTypes) throws IOException {
+		if (!mirror.virtualMachineImpl().isJdwpVersionGreaterOrEqual(1, 5)) {
+			return;
+		}
+		List<ReferenceTypeImpl> unknown = new ArrayList<>();
+		for (ReferenceTypeImpl refType : refTypes) {
+			if (!refType.fGenericSignatureKnown) {
+				unknown.add(refType);
+			}
+		}
+		if (unknown.isEmpty()) {
+			return;
+		}
+		JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC, unknown, (type, out) -> type.write(mirror, out));
+		for (int i = 0; i < replies.length; i++) {
+			if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+				DataInputStream replyData = replies[i].dataInStream();
+				ReferenceTypeImpl refType = unknown.get(i);
+				refType.setSignature(mirror.readString("signature", replyData)); //$NON-NLS-1$
+				refType.setGenericSignature(mirror.readString("generic signature", replyData)); //$NON-NLS-1$
+			}
+		}
+	}
+
 	/**
 	 * if genericSignature is <code>null</code>, the generic signature is set to
 	 * not-known (genericSignature() will ask the VM for the generic signature)
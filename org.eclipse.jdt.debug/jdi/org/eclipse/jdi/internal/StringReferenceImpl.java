@@ -15,14 +15,25 @@ package org.eclipse.jdi.internal;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpStringID;
 
+import com.sun.jdi.ByteValue;
+import com.sun.jdi.Field;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StringReference;
+import com.sun.jdi.Value;
 
 /**
  * this class implements the corresponding interfaces declared by the JDI
@@ -33,6 +44,25 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	/** JDWP Tag. */
 	public static final byte tag = JdwpID.STRING_TAG;
 
+	/**
+	 * Instance fields of the layouts of <code>java.lang.String</code> whose
+	 * <code>value</code> array holds exactly the characters of the string
+	 */
+	private static final Set<String> PREFIX_LAYOUT_FIELDS = new HashSet<>(Arrays.asList(
+			"value", "coder", "hash", "hashIsZero")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/**
+	 * Cached value. This value is safe for caching because strings are
+	 * immutable.
+	 */
+	private String fValue;
+
+	/**
+	 * Cached first characters of a value longer than the number of characters
+	 * requested, or <code>null</code>.
+	 */
+	private String fPrefix;
+
 	/**
 	 * Creates new StringReferenceImpl.
 	 */
@@ -53,7 +83,9 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	 */
 	@Override
 	public String value() {
-		// Note that this information should not be cached.
+		if (fValue != null) {
+			return fValue;
+		}
 		initJdwpRequest();
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.SR_VALUE,
@@ -61,8 +93,8 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
-			String result = readString("value", replyData); //$NON-NLS-1$
-			return result;
+			fValue = readString("value", replyData); //$NON-NLS-1$
+			return fValue;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -71,6 +103,180 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Returns at most the given number of first characters of this string.
+	 * When <code>java.lang.String</code> has a known layout and the characters
+	 * are held in a <code>char[]</code> or a <code>byte[]</code> of Latin-1
+	 * characters, only the characters returned are transferred from the VM.
+	 * Other strings are retrieved entirely.
+	 *
+	 * @param maxLength
+	 *            maximum number of characters, or 0 for no maximum
+	 * @return first characters of this string
+	 */
+	public String value(int maxLength) {
+		String value = getCachedValue(maxLength);
+		if (value == null && maxLength > 0) {
+			initJdwpRequest();
+			try {
+				prefetchValues(this, Collections.singletonList(this), maxLength);
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+			} finally {
+				handledJdwpRequest();
+			}
+			value = getCachedValue(maxLength);
+		}
+		if (value == null) {
+			value();
+			value = getCachedValue(maxLength);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns at most the given number of first characters of this string if
+	 * they are cached, or <code>null</code>.
+	 */
+	private String getCachedValue(int maxLength) {
+		if (fValue != null) {
+			return maxLength > 0 && fValue.length() > maxLength ? fValue.substring(0, maxLength) : fValue;
+		}
+		if (maxLength > 0 && fPrefix != null && fPrefix.length() >= maxLength) {
+			return fPrefix.substring(0, maxLength);
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves at most the given number of first characters of the given
+	 * strings, unless already known. Requests of the same command are sent
+	 * before the first reply is read.
+	 *
+	 * @param mirror
+	 *            mirror of the VM of the strings
+	 * @param strings
+	 *            strings
+	 * @param maxLength
+	 *            maximum number of characters, or 0 for no maximum
+	 * @throws IOException
+	 *             if a reply cannot be read
+	 */
+	static void prefetchValues(MirrorImpl mirror, List<StringReferenceImpl> strings, int maxLength) throws IOException {
+		List<StringReferenceImpl> unknown = new ArrayList<>();
+		for (StringReferenceImpl string : strings) {
+			if (string.getCachedValue(maxLength) == null) {
+				unknown.add(string);
+			}
+		}
+		if (unknown.isEmpty()) {
+			return;
+		}
+		if (maxLength > 0) {
+			unknown = prefetchPrefixes(mirror, unknown, maxLength);
+			if (unknown.isEmpty()) {
+				return;
+			}
+		}
+		JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.SR_VALUE, unknown, (object, out) -> object.write(mirror, out));
+		for (int i = 0; i < replies.length; i++) {
+			if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+				unknown.get(i).fValue = mirror.readString("value", replies[i].dataInStream()); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the first characters of those of the given strings that are
+	 * longer than the given length, from the arrays holding their characters.
+	 * Only strings of a known layout are read this way, since other layouts,
+	 * such as one with an offset and a count, may hold the characters of a
+	 * string in a part of a larger array. The characters of all the strings
+	 * are requested before the first reply is read.
+	 *
+	 * @return the strings whose entire value remains to be retrieved
+	 */
+	private static List<StringReferenceImpl> prefetchPrefixes(MirrorImpl mirror, List<StringReferenceImpl> strings, int maxLength) throws IOException {
+		ReferenceType type = strings.get(0).referenceType();
+		for (Field field : type.fields()) {
+			if (!field.isStatic() && !PREFIX_LAYOUT_FIELDS.contains(field.name())) {
+				return strings;
+			}
+		}
+		Field valueField = type.fieldByName("value"); //$NON-NLS-1$
+		Field coderField = type.fieldByName("coder"); //$NON-NLS-1$
+		if (!(valueField instanceof FieldImpl) || valueField.isStatic()) {
+			return strings;
+		}
+		List<FieldImpl> fields = new ArrayList<>(2);
+		fields.add((FieldImpl) valueField);
+		boolean latin1 = "[B".equals(valueField.signature()); //$NON-NLS-1$
+		if (latin1) {
+			if (!(coderField instanceof FieldImpl) || coderField.isStatic()) {
+				return strings;
+			}
+			fields.add((FieldImpl) coderField);
+		} else if (!"[C".equals(valueField.signature())) { //$NON-NLS-1$
+			return strings;
+		}
+		JdwpReplyPacket[] replies = mirror.requestVMForEach(JdwpCommandPacket.OR_GET_VALUES, strings, (string, out) -> {
+			string.write(mirror, out);
+			mirror.writeInt(fields.size(), "size", out); //$NON-NLS-1$
+			for (FieldImpl field : fields) {
+				field.write(mirror, out);
+			}
+		});
+		List<StringReferenceImpl> remaining = new ArrayList<>();
+		List<StringReferenceImpl> candidates = new ArrayList<>();
+		List<ArrayReferenceImpl> arrays = new ArrayList<>();
+		for (int i = 0; i < replies.length; i++) {
+			Value array = null;
+			Value coder = null;
+			if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+				DataInputStream replyData = replies[i].dataInStream();
+				int count = mirror.readInt("elements", replyData); //$NON-NLS-1$
+				array = ValueImpl.readWithTag(mirror, replyData);
+				if (count > 1) {
+					coder = ValueImpl.readWithTag(mirror, replyData);
+				}
+			}
+			// the characters of Utf-16 strings are in the byte order of the VM
+			if (array instanceof ArrayReferenceImpl && (!latin1 || (coder instanceof ByteValue && ((ByteValue) coder).value() == 0))) {
+				candidates.add(strings.get(i));
+				arrays.add((ArrayReferenceImpl) array);
+			} else {
+				remaining.add(strings.get(i));
+			}
+		}
+		ArrayReferenceImpl.prefetchLengths(mirror, arrays);
+		List<StringReferenceImpl> longStrings = new ArrayList<>();
+		List<ArrayReferenceImpl> longArrays = new ArrayList<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			if (arrays.get(i).length() <= maxLength) {
+				remaining.add(candidates.get(i));
+			} else {
+				longStrings.add(candidates.get(i));
+				longArrays.add(arrays.get(i));
+			}
+		}
+		if (longArrays.isEmpty()) {
+			return remaining;
+		}
+		Object[] prefixes = ArrayReferenceImpl.getPrimitivePrefixes(mirror, longArrays, maxLength);
+		for (int i = 0; i < prefixes.length; i++) {
+			StringReferenceImpl string = longStrings.get(i);
+			Object characters = prefixes[i];
+			if (characters instanceof char[]) {
+				string.fPrefix = new String((char[]) characters);
+			} else if (characters instanceof byte[]) {
+				string.fPrefix = new String((byte[]) characters, StandardCharsets.ISO_8859_1);
+			} else {
+				remaining.add(string);
+			}
+		}
+		return remaining;
+	}
+
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
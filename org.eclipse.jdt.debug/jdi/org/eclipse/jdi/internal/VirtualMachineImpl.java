@@ -97,6 +97,11 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	private final ValueCache fCachedReftypes = new ValueCache();
 	private final ValueCache fCachedObjects = new ValueCache();
+	/**
+	 * Line tables of the known reference types, which are kept when the
+	 * mirrors of the types are evicted from the cache.
+	 */
+	private final Map<JdwpReferenceTypeID, LineTableIndex> fLineTables = new HashMap<>();
 
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
@@ -252,6 +257,41 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		fCachedObjects.put(mirror.getObjectID(), mirror);
 	}
 
+	/**
+	 * @return Returns the index of the line tables of the given type, creating
+	 *         an empty index if there is none.
+	 */
+	public LineTableIndex getLineTableIndex(ReferenceTypeImpl refType) {
+		String signature = refType.signature();
+		synchronized (fLineTables) {
+			LineTableIndex index = fLineTables.get(refType.getRefTypeID());
+			if (index == null || !index.getSignature().equals(signature)) {
+				index = new LineTableIndex(signature);
+				fLineTables.put(refType.getRefTypeID(), index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Removes the index of the line tables of the given type.
+	 */
+	public void removeLineTableIndex(JdwpReferenceTypeID ID) {
+		synchronized (fLineTables) {
+			fLineTables.remove(ID);
+		}
+	}
+
+	/**
+	 * Removes the indexes of the line tables of the types with the given
+	 * signature, whether their mirrors are cached or not.
+	 */
+	private void removeLineTableIndexes(String signature) {
+		synchronized (fLineTables) {
+			fLineTables.values().removeIf(index -> index.getSignature().equals(signature));
+		}
+	}
+
 	/**
 	 * Flushes all stored Jdwp results.
 	 */
@@ -263,6 +303,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			refType.flushStoredJdwpResults();
 		}
 
+		synchronized (fLineTables) {
+			fLineTables.clear();
+		}
+
 		fVersionDescription = null;
 		fGotIDSizes = false;
 		fHcrCapabilities = null;
@@ -274,6 +318,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * it.
 	 */
 	public final void removeKnownRefType(String signature) {
+		removeLineTableIndexes(signature);
 		List<ReferenceType> refTypeList = classesBySignature(signature);
 		if (refTypeList.isEmpty()) {
 			return;
@@ -1276,6 +1321,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				for (byte b : bytes) {
 					writeByte(b, "classByte", outData); //$NON-NLS-1$
 				}
+				removeLineTableIndex(type.getRefTypeID());
 				fCachedReftypes.remove(type.getRefTypeID()); // flush local
 																// cache of
 																// redefined
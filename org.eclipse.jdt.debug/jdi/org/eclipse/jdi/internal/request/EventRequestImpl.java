@@ -20,7 +20,10 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdi.internal.FieldImpl;
@@ -107,6 +110,11 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 * Reuqest Set command, null if request had not yet been enabled.
 	 */
 	protected RequestID fRequestID = null;
+
+	/**
+	 * Whether the request was deleted from the event request manager.
+	 */
+	private boolean fDeleted = false;
 	/**
 	 * Determines the threads to suspend when the requested event occurs in the
 	 * target VM.
@@ -267,22 +275,9 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			writeByte(
-					suspendPolicyJDWP(),
-					"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
-			writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
-			writeModifiers(outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_SET,
-					outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fRequestID = RequestID.read(this, replyData);
-			virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+					setCommandData());
+			setRequestID(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -290,6 +285,109 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * Enables the given requests. The Event Request Set commands of all
+	 * requests are sent before the first reply is read, so that enabling the
+	 * requests costs a single round trip to the VM. Requests that are already
+	 * enabled or deleted are skipped.
+	 *
+	 * @return the failure to enable each request that could not be enabled,
+	 *         empty if all requests were enabled
+	 */
+	static Map<EventRequest, RuntimeException> enable(MirrorImpl mirror, List<EventRequestImpl> requests) {
+		List<EventRequestImpl> sent = new ArrayList<>(requests.size());
+		List<byte[]> data = new ArrayList<>(requests.size());
+		Map<EventRequest, RuntimeException> failures = new LinkedHashMap<>();
+		mirror.initJdwpRequest();
+		try {
+			for (EventRequestImpl request : requests) {
+				synchronized (request) {
+					if (!request.isEnabled() && !request.fDeleted) {
+						data.add(request.setCommandData());
+						sent.add(request);
+					}
+				}
+			}
+			if (sent.isEmpty()) {
+				return failures;
+			}
+			JdwpReplyPacket[] replies = mirror.requestVM(JdwpCommandPacket.ER_SET, data);
+			for (int i = 0; i < replies.length; i++) {
+				EventRequestImpl request = sent.get(i);
+				try {
+					synchronized (request) {
+						if (request.isEnabled() || request.fDeleted) {
+							// enabled or deleted by another thread meanwhile
+							if (replies[i].errorCode() == JdwpReplyPacket.NONE) {
+								request.clear(RequestID.read(request, replies[i].dataInStream()));
+							}
+						} else {
+							request.setRequestID(replies[i]);
+						}
+					}
+				} catch (RuntimeException e) {
+					failures.put(request, e);
+				}
+			}
+		} catch (IOException e) {
+			mirror.defaultIOExceptionHandler(e);
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+		return failures;
+	}
+
+	/**
+	 * @return Returns the data of the Event Request Set command enabling this
+	 *         request.
+	 */
+	private byte[] setCommandData() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		writeByte(
+				suspendPolicyJDWP(),
+				"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
+		writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
+		writeModifiers(outData);
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * Reads the request ID from the reply to the Event Request Set command
+	 * enabling this request.
+	 */
+	private void setRequestID(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fRequestID = RequestID.read(this, replyData);
+		virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+	}
+
+	/**
+	 * Clears the request with the given ID of the kind of this request from
+	 * the VM.
+	 */
+	private void clear(RequestID requestID) throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		requestID.write(this, outData);
+		JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_CLEAR,
+				outBytes);
+		defaultReplyErrorHandler(replyPacket.errorCode());
+	}
+
+	/**
+	 * Marks this request as deleted from the event request manager, so that it
+	 * is not enabled anymore.
+	 */
+	synchronized void setDeleted() {
+		fDeleted = true;
+	}
+
 	/**
 	 * Clear all breakpoints (used by EventRequestManager).
 	 */
@@ -436,6 +534,16 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		fClassExclusionFilters.add(filter);
 	}
 
+	/**
+	 * @return Returns the class exclusion filters added to this request.
+	 */
+	public List<String> classExclusionFilters() {
+		if (fClassExclusionFilters == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(fClassExclusionFilters);
+	}
+
 	/**
 	 * Restricts the events generated by this request to those that occur at the
 	 * given location.
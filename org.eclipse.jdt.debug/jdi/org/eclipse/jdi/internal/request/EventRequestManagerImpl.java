@@ -20,6 +20,7 @@ import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdi.internal.FieldImpl;
 import org.eclipse.jdi.internal.LocationImpl;
@@ -372,6 +373,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	private void deleteEventRequest(EventRequestType<? extends EventRequest> type, EventRequestImpl req) throws VMMismatchException {
 		// Remove request from list of requests and from the mapping of requestIDs to requests.
 		checkVM(req);
+		req.setDeleted();
 		type.requests.remove(req);
 		RequestID id = req.requestID();
 		if(id != null) {
@@ -379,6 +381,25 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		}
 	}
 
+	/**
+	 * Enables the given requests, sending the Event Request Set commands of all
+	 * requests before waiting for the first reply. Requests that are already
+	 * enabled or deleted are skipped.
+	 *
+	 * @param reqs
+	 *            requests to enable
+	 * @return the failure to enable each request that could not be enabled,
+	 *         empty if all requests were enabled
+	 */
+	public Map<EventRequest, RuntimeException> enableEventRequests(List<? extends EventRequest> reqs) {
+		List<EventRequestImpl> requests = new ArrayList<>(reqs.size());
+		for (EventRequest req : reqs) {
+			checkVM(req);
+			requests.add((EventRequestImpl) req);
+		}
+		return EventRequestImpl.enable(this, requests);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.request.EventRequestManager#deleteEventRequest(com.sun.jdi.request.EventRequest)
 	 */
@@ -129,4 +129,25 @@ public interface IJavaArray extends IJavaObject, IIndexedValue {
 	public void setValues(int offset, int length, IJavaValue[] values,
 			int startOffset) throws DebugException;
 
+	/**
+	 * Returns a range of the values of this array of a primitive component
+	 * type in a Java array of that type, such as an <code>int[]</code> for an
+	 * array of <code>int</code>. The values are transferred in bulk, without
+	 * creating a value object per entry, so that large arrays such as buffers
+	 * can be rendered from the returned array.
+	 *
+	 * @param offset
+	 *            index of the first value to return
+	 * @param length
+	 *            the number of values to return
+	 * @return array of primitive values, or <code>null</code> if the
+	 *         component type of this array is not a primitive type
+	 * @exception DebugException
+	 *                if an exception occurs retrieving the values or if the
+	 *                given offset and length are not within the range of this
+	 *                array
+	 * @since 3.22
+	 */
+	public Object getPrimitiveValues(int offset, int length) throws DebugException;
+
 }
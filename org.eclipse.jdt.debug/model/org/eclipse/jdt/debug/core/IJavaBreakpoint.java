@@ -269,4 +269,13 @@ public interface IJavaBreakpoint extends IBreakpoint, ITriggerPoint {
 	public boolean removeBreakpointListener(String identifier)
 			throws CoreException;
 
+	/**
+	 * Returns the statistics of the events reported for this breakpoint in
+	 * the debug targets it is installed in.
+	 *
+	 * @return statistics of this breakpoint
+	 * @since 3.22
+	 */
+	public IJavaBreakpointStatistics getStatistics();
+
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.core;
+
+/**
+ * Statistics of the events reported for a Java breakpoint in all the debug targets it is installed in, to find the breakpoints which slow the
+ * execution of a program down.
+ * <p>
+ * Latencies are counted in histograms, in which the element at index <code>i</code> counts the events whose latency in microseconds is less
+ * than <code>2<sup>i</sup></code> and, for <code>i &gt; 0</code>, at least <code>2<sup>i-1</sup></code>. The last element counts all the
+ * longer latencies.
+ * </p>
+ *
+ * @see IJavaBreakpoint#getStatistics()
+ * @since 3.22
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ */
+public interface IJavaBreakpointStatistics {
+
+	/**
+	 * Number of elements of the latency histograms
+	 */
+	public static final int HISTOGRAM_SIZE = 24;
+
+	/**
+	 * Returns the number of events reported for the breakpoint, whether or not they suspended a thread.
+	 *
+	 * @return number of events
+	 */
+	public long getEventCount();
+
+	/**
+	 * Returns the number of events for which the breakpoint voted to suspend the thread.
+	 *
+	 * @return number of suspending events
+	 */
+	public long getSuspendCount();
+
+	/**
+	 * Returns the number of events after which the thread was resumed without suspending, for instance because the condition of the breakpoint
+	 * was not satisfied.
+	 *
+	 * @return number of events resumed without suspending
+	 */
+	public long getResumeCount();
+
+	/**
+	 * Returns the number of evaluations of the condition of the breakpoint.
+	 *
+	 * @return number of condition evaluations
+	 */
+	public long getConditionEvaluationCount();
+
+	/**
+	 * Returns the total time spent evaluating the condition of the breakpoint, in nanoseconds.
+	 *
+	 * @return condition evaluation time in nanoseconds
+	 */
+	public long getConditionEvaluationTime();
+
+	/**
+	 * Returns the histogram of the latencies from the arrival of an event to the vote of the breakpoint on suspending the thread.
+	 *
+	 * @return histogram of {@link #HISTOGRAM_SIZE} elements
+	 */
+	public long[] getVoteLatencies();
+
+	/**
+	 * Returns the histogram of the latencies from the arrival of an event to the resumption of the thread, for the events which did not suspend
+	 * the thread.
+	 *
+	 * @return histogram of {@link #HISTOGRAM_SIZE} elements
+	 */
+	public long[] getResumeLatencies();
+
+	/**
+	 * Resets all counters and histograms to zero.
+	 */
+	public void reset();
+}
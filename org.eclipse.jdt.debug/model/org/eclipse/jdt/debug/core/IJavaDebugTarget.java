@@ -580,4 +580,17 @@ public interface IJavaDebugTarget extends IDebugTarget, IStepFilters {
 	public void removeHotCodeReplaceListener(
 			IJavaHotCodeReplaceListener listener);
 
+	/**
+	 * Returns the number of instances of each reference type loaded in this
+	 * target, retrieved with a single request, or <code>null</code> if this
+	 * target does not support instance retrieval.
+	 *
+	 * @return heap histogram or <code>null</code>
+	 * @throws DebugException
+	 *             if the instance counts could not be retrieved
+	 * @see #supportsInstanceRetrieval()
+	 * @since 3.22
+	 */
+	public IJavaHeapHistogram getHeapHistogram() throws DebugException;
+
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.core;
+
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Number of instances of the reference types loaded in a debug target, at the
+ * time the histogram was retrieved. Entries are sorted by decreasing count and
+ * types without instances are omitted.
+ * <p>
+ * Subtracting the histogram of an earlier suspend from a later one gives the
+ * types whose number of instances grew in between, to spot leaks.
+ * </p>
+ *
+ * @see IJavaDebugTarget#getHeapHistogram()
+ * @since 3.22
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ */
+public interface IJavaHeapHistogram {
+
+	/**
+	 * Returns the number of entries of this histogram.
+	 *
+	 * @return number of entries
+	 */
+	public int size();
+
+	/**
+	 * Returns the fully qualified name of the type of the entry at the given
+	 * index.
+	 *
+	 * @param index
+	 *            index of an entry
+	 * @return type name
+	 */
+	public String getTypeName(int index);
+
+	/**
+	 * Returns the type of the entry at the given index.
+	 *
+	 * @param index
+	 *            index of an entry
+	 * @return reference type
+	 */
+	public IJavaReferenceType getType(int index);
+
+	/**
+	 * Returns the number of instances of the entry at the given index. In a
+	 * histogram returned by {@link #subtract(IJavaHeapHistogram)} this is the
+	 * difference of the number of instances, which may be negative.
+	 *
+	 * @param index
+	 *            index of an entry
+	 * @return number of instances
+	 */
+	public long getCount(int index);
+
+	/**
+	 * Returns the sum of the counts of all entries.
+	 *
+	 * @return total number of instances
+	 */
+	public long getTotalCount();
+
+	/**
+	 * Returns the differences between the counts of this histogram and the
+	 * given histogram, retrieved earlier from the same debug target. Entries
+	 * are sorted by decreasing difference and types whose count did not change
+	 * are omitted.
+	 *
+	 * @param previous
+	 *            a histogram retrieved earlier from the same target
+	 * @return histogram of the differences
+	 * @throws DebugException
+	 *             if the given histogram was not retrieved from the same
+	 *             target
+	 */
+	public IJavaHeapHistogram subtract(IJavaHeapHistogram previous) throws DebugException;
+}
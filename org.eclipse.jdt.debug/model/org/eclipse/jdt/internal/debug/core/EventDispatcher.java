@@ -29,14 +29,18 @@ import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.jdi.internal.event.ExceptionEventImpl;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.ClassPrepareEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventIterator;
 import com.sun.jdi.event.EventQueue;
 import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.LocatableEvent;
 import com.sun.jdi.event.ThreadDeathEvent;
 import com.sun.jdi.event.VMDeathEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
@@ -101,8 +105,11 @@ public class EventDispatcher implements Runnable {
 	 *
 	 * @param eventSet
 	 *            events to dispatch
+	 * @param arrival
+	 *            time the event set was removed from the event queue, as
+	 *            returned by {@link System#nanoTime()}
 	 */
-	private void dispatch(EventSet eventSet) {
+	private void dispatch(EventSet eventSet, long arrival) {
 		if (isShutdown()) {
 			return;
 		}
@@ -124,87 +131,99 @@ public class EventDispatcher implements Runnable {
 		boolean resume = true;
 		int index = -1;
 		List<Event> deferredEvents = null;
-		while (iter.hasNext()) {
-			index++;
-			if (isShutdown()) {
-				return;
-			}
-			Event event = iter.nextEvent();
-			if (event == null) {
-				continue;
-			}
-			// Dispatch events to registered listeners, if any
-			IJDIEventListener listener = fEventHandlers.get(event.request());
-			listeners[index] = listener;
-			if (listener != null) {
-				if (listener instanceof IJavaLineBreakpoint) {
-					// Event dispatch to conditional breakpoints is deferred
-					// until after
-					// other listeners vote.
-					try {
-						if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
-							if (deferredEvents == null) {
-								deferredEvents = new ArrayList<>(5);
-							}
-							deferredEvents.add(event);
-							continue;
-						}
-					} catch (CoreException exception) {
-						JDIDebugPlugin.log(exception);
-					}
-				}
-				vote = true;
-				try {
-					try {
-						resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
-					} finally {
-						enableGCForExceptionEvent(event);
-					}
-				} catch (Throwable t) {
-					logHandleEventError(listener, event, t);
-				}
-				continue;
-			}
-
-			// Dispatch VM start/end events
-			if (event instanceof VMDeathEvent) {
-				fTarget.handleVMDeath((VMDeathEvent) event);
-				shutdown(); // stop listening for events
-			} else if (event instanceof VMDisconnectEvent) {
-				fTarget.handleVMDisconnect((VMDisconnectEvent) event);
-				shutdown(); // stop listening for events
-			} else if (event instanceof VMStartEvent) {
-				fTarget.handleVMStart((VMStartEvent) event);
-			} else {
-				// not handled
-			}
+		// requests created for the classes prepared in this event set are
+		// enabled together before the threads resume
+		boolean batch = containsClassPrepareEvent(eventSet);
+		if (batch) {
+			fTarget.beginRequestBatch();
 		}
-
-		// process deferred conditional breakpoint events
-		if (deferredEvents != null) {
-			Iterator<Event> deferredIter = deferredEvents.iterator();
-			while (deferredIter.hasNext()) {
+		try {
+			while (iter.hasNext()) {
+				index++;
 				if (isShutdown()) {
 					return;
 				}
-				Event event = deferredIter.next();
+				Event event = iter.nextEvent();
 				if (event == null) {
 					continue;
 				}
 				// Dispatch events to registered listeners, if any
-				IJDIEventListener listener = fEventHandlers
-						.get(event.request());
+				IJDIEventListener listener = fEventHandlers.get(event.request());
+				listeners[index] = listener;
 				if (listener != null) {
+					if (listener instanceof IJavaLineBreakpoint) {
+						// Event dispatch to conditional breakpoints is deferred
+						// until after
+						// other listeners vote.
+						try {
+							if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
+								if (deferredEvents == null) {
+									deferredEvents = new ArrayList<>(5);
+								}
+								deferredEvents.add(event);
+								continue;
+							}
+						} catch (CoreException exception) {
+							JDIDebugPlugin.log(exception);
+						}
+					}
 					vote = true;
 					try {
-						resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
+						try {
+							resume = handleEvent(listener, event, resume, eventSet, arrival) && resume;
+						} finally {
+							enableGCForExceptionEvent(event);
+						}
 					} catch (Throwable t) {
 						logHandleEventError(listener, event, t);
-					} finally {
-						enableGCForExceptionEvent(event);
 					}
 					continue;
 				}
+
+				// Dispatch VM start/end events
+				if (event instanceof VMDeathEvent) {
+					fTarget.handleVMDeath((VMDeathEvent) event);
+					shutdown(); // stop listening for events
+				} else if (event instanceof VMDisconnectEvent) {
+					fTarget.handleVMDisconnect((VMDisconnectEvent) event);
+					shutdown(); // stop listening for events
+				} else if (event instanceof VMStartEvent) {
+					fTarget.handleVMStart((VMStartEvent) event);
+				} else {
+					// not handled
+				}
+			}
+
+			// process deferred conditional breakpoint events
+			if (deferredEvents != null) {
+				Iterator<Event> deferredIter = deferredEvents.iterator();
+				while (deferredIter.hasNext()) {
+					if (isShutdown()) {
+						return;
+					}
+					Event event = deferredIter.next();
+					if (event == null) {
+						continue;
+					}
+					// Dispatch events to registered listeners, if any
+					IJDIEventListener listener = fEventHandlers
+							.get(event.request());
+					if (listener != null) {
+						vote = true;
+						try {
+							resume = handleEvent(listener, event, resume, eventSet, arrival) && resume;
+						} catch (Throwable t) {
+							logHandleEventError(listener, event, t);
+						} finally {
+							enableGCForExceptionEvent(event);
+						}
+						continue;
+					}
+				}
+			}
+		} finally {
+			if (batch) {
+				fTarget.endRequestBatch();
 			}
 		}
 
@@ -237,6 +256,7 @@ public class EventDispatcher implements Runnable {
 		if (vote && resume) {
 			try {
 				eventSet.resume();
+				eventSetResumed(eventSet, listeners, arrival);
 			} catch (VMDisconnectedException e) {
 			} catch (RuntimeException e) {
 				try {
@@ -249,6 +269,50 @@ public class EventDispatcher implements Runnable {
 		}
 	}
 
+	/**
+	 * Notifies the given listener of the given event, recording the vote in
+	 * the statistics of the breakpoint the listener may be.
+	 */
+	private boolean handleEvent(IJDIEventListener listener, Event event, boolean resume, EventSet eventSet, long arrival) {
+		boolean vote = listener.handleEvent(event, fTarget, !resume, eventSet);
+		if (listener instanceof JavaBreakpoint && event instanceof LocatableEvent) {
+			long latency = System.nanoTime() - arrival;
+			((JavaBreakpoint) listener).getStatistics().eventHandled(latency, !vote);
+			if (JDIDebugOptions.DEBUG_BREAKPOINT_STATISTICS) {
+				JDIDebugOptions.trace(NLS.bind("Breakpoint at {0} voted to {1} after {2} us", new Object[] { ((LocatableEvent) event).location(), //$NON-NLS-1$
+						vote ? "resume" : "suspend", Long.valueOf(latency / 1000) })); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return vote;
+	}
+
+	/**
+	 * Records the resumption of the threads of the given event set in the
+	 * statistics of the breakpoints it was reported to.
+	 */
+	private void eventSetResumed(EventSet eventSet, IJDIEventListener[] listeners, long arrival) {
+		long latency = System.nanoTime() - arrival;
+		int index = -1;
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			index++;
+			Event event = iter.nextEvent();
+			if (listeners[index] instanceof JavaBreakpoint && event instanceof LocatableEvent) {
+				((JavaBreakpoint) listeners[index]).getStatistics().eventResumed(latency);
+			}
+		}
+	}
+
+	private boolean containsClassPrepareEvent(EventSet eventSet) {
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			if (iter.nextEvent() instanceof ClassPrepareEvent) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean requiresExpressionEvaluation(EventSet eventSet) {
 		EventIterator iter = eventSet.eventIterator();
 		while (iter.hasNext()) {
@@ -316,14 +380,15 @@ public class EventDispatcher implements Runnable {
 					}
 
 					if (eventSet != null) {
+						long arrival = System.nanoTime();
 						if (!requiresExpressionEvaluation(eventSet)) {
-							dispatch(eventSet);
+							dispatch(eventSet, arrival);
 						} else {
 							// 269231 always evaluate expressions in a separate job to avoid deadlocks
 							Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
 								@Override
 								protected IStatus run(IProgressMonitor monitor) {
-									dispatch(eventSet);
+									dispatch(eventSet, arrival);
 									return Status.OK_STATUS;
 								}
 							};
@@ -30,18 +30,22 @@ import org.osgi.framework.BundleContext;
 public class JDIDebugOptions implements DebugOptionsListener {
 
 	public static final String DEBUG_AST_EVALUATIONS_CALLING_THREADS_FLAG = "org.eclipse.jdt.debug/debug/astEvaluations/callingThreads"; //$NON-NLS-1$
+	public static final String DEBUG_AST_EVALUATIONS_PROFILE_FLAG = "org.eclipse.jdt.debug/debug/astEvaluations/profile"; //$NON-NLS-1$
 	public static final String DEBUG_AST_EVALUATIONS_FLAG = "org.eclipse.jdt.debug/debug/astEvaluations"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_REQUEST_TIMES_FLAG = "org.eclipse.jdt.debug/debug/jdiRequestTimes"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_EVENTS_FLAG = "org.eclipse.jdt.debug/debug/jdiEvents"; //$NON-NLS-1$
+	public static final String DEBUG_BREAKPOINT_STATISTICS_FLAG = "org.eclipse.jdt.debug/debug/breakpointStatistics"; //$NON-NLS-1$
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.debug/debug"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FLAG = "org.eclipse.jdt.debug/debug/jdi/verbose"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FILE = "org.eclipse.jdt.debug/debug/jdi/verbose/file"; //$NON-NLS-1$
 
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JDI_EVENTS = false;
+	public static boolean DEBUG_BREAKPOINT_STATISTICS = false;
 	public static boolean DEBUG_JDI_REQUEST_TIMES = false;
 	public static boolean DEBUG_AST_EVAL = false;
 	public static boolean DEBUG_AST_EVAL_THREAD_TRACE = false;
+	public static boolean DEBUG_AST_EVAL_PROFILE = false;
 	public static boolean DEBUG_JDI_VEBOSE;
 	public static String DEBUG_JDI_VEBOSE_FILE;
 
@@ -71,9 +75,11 @@ public class JDIDebugOptions implements DebugOptionsListener {
 		fgDebugTrace = options.newDebugTrace(JDIDebugPlugin.getUniqueIdentifier());
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_JDI_EVENTS = DEBUG && options.getBooleanOption(DEBUG_JDI_EVENTS_FLAG, false);
+		DEBUG_BREAKPOINT_STATISTICS = DEBUG && options.getBooleanOption(DEBUG_BREAKPOINT_STATISTICS_FLAG, false);
 		DEBUG_JDI_REQUEST_TIMES = DEBUG && options.getBooleanOption(DEBUG_JDI_REQUEST_TIMES_FLAG, false);
 		DEBUG_AST_EVAL = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_FLAG, false);
 		DEBUG_AST_EVAL_THREAD_TRACE = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_CALLING_THREADS_FLAG, false);
+		DEBUG_AST_EVAL_PROFILE = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_PROFILE_FLAG, false);
 		DEBUG_JDI_VEBOSE = DEBUG && options.getBooleanOption(DEBUG_JDI_VERBOSE_FLAG, false);
 		if (DEBUG && DEBUG_JDI_VEBOSE) {
 			DEBUG_JDI_VEBOSE_FILE = options.getOption(DEBUG_JDI_VERBOSE_FILE);
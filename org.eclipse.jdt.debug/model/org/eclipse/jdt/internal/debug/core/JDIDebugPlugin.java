@@ -118,6 +118,18 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ENABLE_ADVANCED_SOURCELOOKUP = JDIDebugPlugin
 			.getUniqueIdentifier() + ".enable_advanced_sourcelookup"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether method breakpoints on a specific
+	 * type are installed as breakpoints at the first location and at the
+	 * return sites of the method rather than as method entry and exit
+	 * requests. Exits by exception and return values are not reported in this
+	 * mode.
+	 *
+	 * @since 3.22
+	 */
+	public static final String PREF_METHOD_BREAKPOINTS_AT_LOCATIONS = JDIDebugPlugin
+			.getUniqueIdentifier() + ".method_breakpoints_at_locations"; //$NON-NLS-1$
+
 	/**
 	 * Extension point for java logical structures.
 	 *
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.debug.core.IJavaBreakpointStatistics;
+
+/**
+ * Counters and latency histograms of a Java breakpoint, updated by the event dispatchers of the targets the breakpoint is installed in and by
+ * the evaluation of its condition.
+ */
+public class BreakpointStatistics implements IJavaBreakpointStatistics {
+
+	private final AtomicLong fEventCount = new AtomicLong();
+	private final AtomicLong fSuspendCount = new AtomicLong();
+	private final AtomicLong fResumeCount = new AtomicLong();
+	private final AtomicLong fConditionEvaluationCount = new AtomicLong();
+	private final AtomicLong fConditionEvaluationTime = new AtomicLong();
+	private final AtomicLongArray fVoteLatencies = new AtomicLongArray(HISTOGRAM_SIZE);
+	private final AtomicLongArray fResumeLatencies = new AtomicLongArray(HISTOGRAM_SIZE);
+
+	/**
+	 * Returns the index of the histogram element counting the given latency.
+	 *
+	 * @param nanos
+	 *            latency in nanoseconds
+	 * @return index in a histogram
+	 */
+	static int bucket(long nanos) {
+		long micros = nanos / 1000;
+		if (micros <= 0) {
+			return 0;
+		}
+		return Math.min(64 - Long.numberOfLeadingZeros(micros), HISTOGRAM_SIZE - 1);
+	}
+
+	/**
+	 * Records the vote of the breakpoint on an event.
+	 *
+	 * @param latency
+	 *            time from the arrival of the event to the vote, in nanoseconds
+	 * @param suspend
+	 *            whether the breakpoint voted to suspend the thread
+	 */
+	public void eventHandled(long latency, boolean suspend) {
+		fEventCount.incrementAndGet();
+		if (suspend) {
+			fSuspendCount.incrementAndGet();
+		}
+		fVoteLatencies.incrementAndGet(bucket(latency));
+	}
+
+	/**
+	 * Records the resumption of the thread of an event which did not suspend it.
+	 *
+	 * @param latency
+	 *            time from the arrival of the event to the resumption, in nanoseconds
+	 */
+	public void eventResumed(long latency) {
+		fResumeCount.incrementAndGet();
+		fResumeLatencies.incrementAndGet(bucket(latency));
+	}
+
+	/**
+	 * Records an evaluation of the condition of the breakpoint.
+	 *
+	 * @param time
+	 *            duration of the evaluation, in nanoseconds
+	 */
+	public void conditionEvaluated(long time) {
+		fConditionEvaluationCount.incrementAndGet();
+		fConditionEvaluationTime.addAndGet(time);
+	}
+
+	@Override
+	public long getEventCount() {
+		return fEventCount.get();
+	}
+
+	@Override
+	public long getSuspendCount() {
+		return fSuspendCount.get();
+	}
+
+	@Override
+	public long getResumeCount() {
+		return fResumeCount.get();
+	}
+
+	@Override
+	public long getConditionEvaluationCount() {
+		return fConditionEvaluationCount.get();
+	}
+
+	@Override
+	public long getConditionEvaluationTime() {
+		return fConditionEvaluationTime.get();
+	}
+
+	@Override
+	public long[] getVoteLatencies() {
+		return toArray(fVoteLatencies);
+	}
+
+	@Override
+	public long[] getResumeLatencies() {
+		return toArray(fResumeLatencies);
+	}
+
+	private static long[] toArray(AtomicLongArray histogram) {
+		long[] counts = new long[histogram.length()];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = histogram.get(i);
+		}
+		return counts;
+	}
+
+	@Override
+	public void reset() {
+		fEventCount.set(0);
+		fSuspendCount.set(0);
+		fResumeCount.set(0);
+		fConditionEvaluationCount.set(0);
+		fConditionEvaluationTime.set(0);
+		for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+			fVoteLatencies.set(i, 0);
+			fResumeLatencies.set(i, 0);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "events: " + getEventCount() + ", suspends: " + getSuspendCount() + ", resumes: " + getResumeCount() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", condition evaluations: " + getConditionEvaluationCount() + " (" + getConditionEvaluationTime() / 1000 + " us)"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
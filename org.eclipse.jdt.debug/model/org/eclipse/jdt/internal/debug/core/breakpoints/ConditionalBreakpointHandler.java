@@ -256,6 +256,7 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					return SUSPEND;
 				}
 				Object lock = listener.getLock();
+				long start = System.nanoTime();
 				synchronized (lock) {
 					engine.evaluateExpression(expression, frame, listener,
 							DebugEvent.EVALUATION_IMPLICIT, false);
@@ -273,6 +274,8 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 												JDIDebugBreakpointMessages.ConditionalBreakpointHandler_0,
 												e)));
 						return SUSPEND;
+					} finally {
+						lineBreakpoint.getStatistics().conditionEvaluated(System.nanoTime() - start);
 					}
 				}
 				return listener.getVote();
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+/**
+ * Index of the class filters of exception breakpoints, by exception type name. When an exception is thrown, the filters of the first exception
+ * breakpoint for the exact type of the exception that has filters decide whether the thread suspends.
+ * <p>
+ * The index is built from the breakpoint manager on first use and discarded by the owning debug target whenever a breakpoint is added, changed
+ * or removed, so that handling exception events does not scan all breakpoints nor compile filter patterns.
+ * </p>
+ */
+public class ExceptionBreakpointIndex {
+
+	/**
+	 * Precompiled inclusion and exclusion class filters of an exception breakpoint.
+	 */
+	static class ClassFilters {
+		private final String[] fInclusionFilters;
+		private final Pattern[] fInclusionPatterns;
+		private final String[] fExclusionFilters;
+		private final Pattern[] fExclusionPatterns;
+
+		ClassFilters(String[] inclusionFilters, String[] exclusionFilters) {
+			fInclusionFilters = inclusionFilters;
+			fInclusionPatterns = compile(inclusionFilters);
+			fExclusionFilters = exclusionFilters;
+			fExclusionPatterns = compile(exclusionFilters);
+		}
+
+		private static Pattern[] compile(String[] filters) {
+			Pattern[] patterns = new Pattern[filters.length];
+			for (int i = 0; i < filters.length; i++) {
+				String filter = filters[i].replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
+				filter = filter.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
+				patterns[i] = Pattern.compile(filter);
+			}
+			return patterns;
+		}
+
+		private static boolean matches(String[] filters, Pattern[] patterns, String typeName, boolean defaultPackage) {
+			for (int i = 0; i < filters.length; i++) {
+				if (defaultPackage && filters[i].length() == 0) {
+					return true;
+				}
+				if (patterns[i].matcher(typeName).find()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Returns whether an exception thrown in the given type passes these filters.
+		 *
+		 * @param typeName
+		 *            fully qualified name of the type throwing the exception
+		 * @return whether the thread should suspend
+		 */
+		boolean accepts(String typeName) {
+			boolean defaultPackage = typeName.indexOf('.') == -1;
+			if (fInclusionFilters.length > 0 && !matches(fInclusionFilters, fInclusionPatterns, typeName, defaultPackage)) {
+				return false;
+			}
+			return fExclusionFilters.length == 0 || !matches(fExclusionFilters, fExclusionPatterns, typeName, defaultPackage);
+		}
+	}
+
+	/**
+	 * Filters by exception type name, or <code>null</code> when the index needs to be built
+	 */
+	private Map<String, ClassFilters> fFilters;
+
+	/**
+	 * Incremented each time the index is discarded, so that an index built concurrently with a breakpoint change is not retained
+	 */
+	private int fGeneration;
+
+	/**
+	 * Discards the index. It is rebuilt on next use.
+	 */
+	public synchronized void clear() {
+		fFilters = null;
+		fGeneration++;
+	}
+
+	/**
+	 * Returns the filters deciding whether exceptions of the given type suspend, or <code>null</code> if no exception breakpoint for the type has
+	 * filters.
+	 *
+	 * @param exceptionName
+	 *            fully qualified name of the exception type
+	 * @return filters for the exception type or <code>null</code>
+	 */
+	ClassFilters getFilters(String exceptionName) {
+		Map<String, ClassFilters> filters;
+		int generation;
+		synchronized (this) {
+			filters = fFilters;
+			generation = fGeneration;
+		}
+		if (filters == null) {
+			filters = build();
+			synchronized (this) {
+				if (generation == fGeneration) {
+					fFilters = filters;
+				}
+			}
+		}
+		return filters.get(exceptionName);
+	}
+
+	private static Map<String, ClassFilters> build() {
+		Map<String, ClassFilters> filters = new HashMap<>();
+		for (IBreakpoint breakpoint : DebugPlugin.getDefault().getBreakpointManager().getBreakpoints()) {
+			if (breakpoint instanceof JavaExceptionBreakpoint exceptionBreakpoint) {
+				try {
+					String typeName = exceptionBreakpoint.getTypeName();
+					if (typeName == null || filters.containsKey(typeName)) {
+						continue;
+					}
+					String[] inclusionFilters = exceptionBreakpoint.getInclusionClassFilters();
+					String[] exclusionFilters = exceptionBreakpoint.getExclusionClassFilters();
+					if (inclusionFilters.length > 0 || exclusionFilters.length > 0) {
+						filters.put(typeName, new ClassFilters(inclusionFilters, exclusionFilters));
+					}
+				} catch (CoreException e) {
+					JDIDebugPlugin.log(e);
+				}
+			}
+		}
+		return filters;
+	}
+}
@@ -40,6 +40,7 @@ public class JDIDebugBreakpointMessages extends NLS {
 	public static String JavaWatchpoint_no_access_watchpoints;
 	public static String JavaWatchpoint_no_modification_watchpoints;
 	public static String JavaWatchpoint_Unable_to_create_breakpoint_request___VM_disconnected__1;
+	public static String JavaWatchpoint_invalid_value_filter;
 
 	public static String JavaExceptionBreakpoint_Unable_to_create_breakpoint_request___VM_disconnected__1;
 
@@ -41,6 +41,7 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.ClassPrepareMultiplexer;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
@@ -161,6 +162,11 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	 */
 	private List<String> fBreakpointListenerIds = null;
 
+	/**
+	 * Statistics of the events reported for this breakpoint
+	 */
+	private final BreakpointStatistics fStatistics = new BreakpointStatistics();
+
 	/**
 	 * Empty instance filters array.
 	 */
@@ -312,7 +318,9 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		if (thread == null || thread.isIgnoringBreakpoints()) {
 			return true;
 		}
-		return handleBreakpointEvent(event, thread, suspendVote);
+		boolean resume = handleBreakpointEvent(event, thread, suspendVote);
+		target.breakpointEventHandled(!resume);
+		return resume;
 	}
 
 	/*
@@ -626,21 +634,18 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		if (referenceTypeName == null || enclosingTypeName == null) {
 			return;
 		}
-		// create request to listen to class loads
+		// listen to class loads, sharing the requests with other breakpoints
+		ClassPrepareMultiplexer multiplexer = target.getClassPrepareMultiplexer();
 		if (referenceTypeName.indexOf('$') == -1) {
-			registerRequest(
-					target.createClassPrepareRequest(enclosingTypeName), target);
+			multiplexer.subscribe(this, enclosingTypeName, null);
 			// register to ensure we hear about local and anonymous inner
 			// classes
-			registerRequest(
-					target.createClassPrepareRequest(enclosingTypeName + "$*"), target); //$NON-NLS-1$
+			multiplexer.subscribe(this, enclosingTypeName + "$*", null); //$NON-NLS-1$
 		} else {
-			registerRequest(
-					target.createClassPrepareRequest(referenceTypeName), target);
+			multiplexer.subscribe(this, referenceTypeName, null);
 			// register to ensure we hear about local and anonymous inner
 			// classes
-			registerRequest(target.createClassPrepareRequest(enclosingTypeName
-					+ "$*", referenceTypeName), target); //$NON-NLS-1$
+			multiplexer.subscribe(this, enclosingTypeName + "$*", referenceTypeName); //$NON-NLS-1$
 		}
 
 		// create breakpoint requests for each class currently loaded
@@ -650,16 +655,21 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		}
 
 		boolean success = false;
-		Iterator<ReferenceType> iter = classes.iterator();
-		while (iter.hasNext()) {
-			ReferenceType type = iter.next();
-			if (createRequest(target, type)) {
-				success = true;
+		target.beginRequestBatch();
+		try {
+			Iterator<ReferenceType> iter = classes.iterator();
+			while (iter.hasNext()) {
+				ReferenceType type = iter.next();
+				if (createRequest(target, type)) {
+					success = true;
+				}
 			}
-		}
 
-		if (!success) {
-			addToTargetForLocalType(target, enclosingTypeName);
+			if (!success) {
+				addToTargetForLocalType(target, enclosingTypeName);
+			}
+		} finally {
+			target.endRequestBatch();
 		}
 	}
 
@@ -776,6 +786,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	 * target.
 	 */
 	protected void removeRequests(final JDIDebugTarget target) throws CoreException {
+		target.getClassPrepareMultiplexer().unsubscribe(this);
 		// removing was previously done is a workspace runnable, but that is
 		// not possible since it can be a resource callback (marker deletion)
 		// that causes a breakpoint to be removed
@@ -818,19 +829,41 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		internalUpdateEnabledState(request, isEnabled(), target);
 	}
 
+	/**
+	 * Updates the enabled state of all requests of this breakpoint in the given
+	 * target.
+	 */
+	public void updateEnabledState(JDIDebugTarget target) {
+		for (EventRequest request : new ArrayList<>(getRequests(target))) {
+			try {
+				updateEnabledState(request, target);
+			} catch (CoreException e) {
+				JDIDebugPlugin.log(e);
+			}
+		}
+	}
+
 	/**
 	 * Set the enabled state of the given request to the given value, also
-	 * taking into account instance filters.
+	 * taking into account instance filters. Enabling is deferred when the
+	 * calling thread is in a request batch of the target. Requests are kept
+	 * disabled while a trigger point of the target is waiting to be hit,
+	 * unless this breakpoint is a trigger point. Class prepare requests used to
+	 * install this breakpoint in classes loaded later cannot suspend and stay
+	 * enabled.
 	 */
 	protected void internalUpdateEnabledState(EventRequest request,
 			boolean enabled, JDIDebugTarget target) {
-		if (request.isEnabled() != enabled) {
+		if (enabled && canSuspend(request) && target.isSuppressedByTriggerPoints(this)) {
+			enabled = false;
+		}
+		if (target.isRequestEnabled(request) != enabled) {
 			// change the enabled state
 			try {
 				// if the request has expired, do not disable.
 				// BreakpointRequests that have expired cannot be deleted.
 				if (!isExpired(request)) {
-					request.setEnabled(enabled);
+					target.setRequestEnabled(request, enabled);
 				}
 			} catch (VMDisconnectedException e) {
 			} catch (RuntimeException e) {
@@ -839,6 +872,14 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		}
 	}
 
+	/**
+	 * Returns whether the given request of this breakpoint can suspend the
+	 * target.
+	 */
+	private boolean canSuspend(EventRequest request) {
+		return !(request instanceof ClassPrepareRequest) || this instanceof JavaClassPrepareBreakpoint;
+	}
+
 	/**
 	 * Returns whether this breakpoint has expired.
 	 */
@@ -1493,4 +1534,14 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		}
 		return value.split(","); //$NON-NLS-1$
 	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdt.debug.core.IJavaBreakpoint#getStatistics()
+	 */
+	@Override
+	public BreakpointStatistics getStatistics() {
+		return fStatistics;
+	}
 }
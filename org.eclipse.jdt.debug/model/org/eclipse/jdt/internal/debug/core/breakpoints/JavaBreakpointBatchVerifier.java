@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Verifies the locations of many Java breakpoints at once, as the {@link JavaBreakpointImportParticipant} verifies them one by one. The
+ * breakpoints are grouped by compilation unit so that each unit is parsed once, and the units are processed in parallel on the common fork join
+ * pool.
+ */
+public class JavaBreakpointBatchVerifier {
+
+	private JavaBreakpointBatchVerifier() {
+	}
+
+	/**
+	 * Verifies the given breakpoints, updating the locations of the breakpoints whose member or line moved in their compilation unit.
+	 * Breakpoints which are not in a Java file are not verified.
+	 *
+	 * @param breakpoints
+	 *            the breakpoints to verify
+	 * @param monitor
+	 *            progress monitor or <code>null</code>
+	 * @return the exceptions thrown by the verification of the breakpoints which failed it, by breakpoint. A breakpoint whose location is not valid
+	 *         anymore fails with a cancel status.
+	 * @exception OperationCanceledException
+	 *                if the monitor is canceled
+	 */
+	public static Map<IBreakpoint, CoreException> verify(Collection<? extends IBreakpoint> breakpoints, IProgressMonitor monitor) {
+		Map<IResource, List<IBreakpoint>> breakpointsByUnit = new LinkedHashMap<>();
+		for (IBreakpoint breakpoint : breakpoints) {
+			IResource resource = breakpoint.getMarker().getResource();
+			if (resource != null && resource.getType() == IResource.FILE) {
+				breakpointsByUnit.computeIfAbsent(resource, r -> new ArrayList<>()).add(breakpoint);
+			}
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, breakpointsByUnit.size());
+		Map<IBreakpoint, CoreException> failures = new ConcurrentHashMap<>();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(breakpointsByUnit.size());
+		for (Map.Entry<IResource, List<IBreakpoint>> entry : breakpointsByUnit.entrySet()) {
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				if (!subMonitor.isCanceled()) {
+					verify(entry.getKey(), entry.getValue(), failures);
+				}
+			}));
+		}
+		for (ForkJoinTask<?> task : tasks) {
+			task.join();
+			subMonitor.worked(1);
+		}
+		if (subMonitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		return failures;
+	}
+
+	/**
+	 * Parses the given compilation unit and verifies the given breakpoints in it.
+	 */
+	private static void verify(IResource resource, List<IBreakpoint> breakpoints, Map<IBreakpoint, CoreException> failures) {
+		CompilationUnit unit = JavaBreakpointImportParticipant.parse(resource);
+		if (unit == null) {
+			return;
+		}
+		JavaBreakpointImportParticipant participant = new JavaBreakpointImportParticipant();
+		for (IBreakpoint breakpoint : breakpoints) {
+			try {
+				participant.verify(breakpoint, unit);
+			} catch (CoreException e) {
+				failures.put(breakpoint, e);
+			}
+		}
+	}
+}
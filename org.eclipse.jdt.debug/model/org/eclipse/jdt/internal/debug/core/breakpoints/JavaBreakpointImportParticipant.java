@@ -538,53 +538,82 @@ public class JavaBreakpointImportParticipant implements
 				}
 			}
 			if (unit == null) {
-				ICompilationUnit cunit = JavaCore.createCompilationUnitFrom((IFile) resource);
-				if (cunit != null) {
-					ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-					parser.setSource(cunit);
-					parser.setResolveBindings(true);
-					unit = (CompilationUnit) parser.createAST(new NullProgressMonitor());
-				}
+				unit = parse(resource);
 			}
 		}
 		if (unit != null) {
 			lastResourceVerified = resource;
 			lastCompilationUnit = unit;
 			lastResourceVerifiedTimeStamp = lastResourceVerified.getModificationStamp();
-			if (breakpoint instanceof JavaClassPrepareBreakpoint
-					|| breakpoint instanceof JavaWatchpoint
-					|| breakpoint instanceof JavaMethodEntryBreakpoint
-					|| breakpoint instanceof JavaMethodBreakpoint) {
-				unit.accept(new BreakpointVerifier(breakpoint, unit));
-			} else if (breakpoint instanceof JavaLineBreakpoint) {
-				JavaLineBreakpoint bp = (JavaLineBreakpoint) breakpoint;
-				// line breakpoint use the ValidBreakpointLocationLocator to
-				// (re)place it
-				int currentline = bp.getLineNumber();
-				ValidBreakpointLocationLocator locator = new ValidBreakpointLocationLocator(
-						unit, currentline, true, true);
-				unit.accept(locator);
-				int newline = locator.getLineLocation();
-				if (locator.getLocationType() == ValidBreakpointLocationLocator.LOCATION_LINE) {
-					if (currentline != newline) {
-						if (locator.getFullyQualifiedTypeName() == null) {
-							throw new CoreException(Status.CANCEL_STATUS);
-						}
-						bp.getMarker().setAttribute(JavaBreakpoint.TYPE_NAME,
-								locator.getFullyQualifiedTypeName());
-						bp.getMarker().setAttribute(IMarker.LINE_NUMBER,
-								newline);
-						int length = bp.getCharEnd() - bp.getCharStart();
-						int pos = unit.getPosition(newline, 1);
-						bp.getMarker().setAttribute(IMarker.CHAR_START, pos);
-						bp.getMarker().setAttribute(IMarker.CHAR_END,
-								pos + length);
+			verify(breakpoint, unit);
+		}
+	}
+
+	/**
+	 * Parses the given Java file with resolved bindings
+	 *
+	 * @param resource
+	 *            the file to parse
+	 * @return the AST of the file or <code>null</code> if the file is not a
+	 *         compilation unit
+	 */
+	static CompilationUnit parse(IResource resource) {
+		ICompilationUnit cunit = JavaCore.createCompilationUnitFrom((IFile) resource);
+		if (cunit == null) {
+			return null;
+		}
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cunit);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(new NullProgressMonitor());
+	}
+
+	/**
+	 * Verifies the given breakpoint against the AST of its compilation unit,
+	 * updating its location when its member or line moved
+	 *
+	 * @param breakpoint
+	 *            the breakpoint to verify
+	 * @param unit
+	 *            the AST of the compilation unit of the breakpoint
+	 * @throws CoreException
+	 *             with a cancel status if the breakpoint location is not valid
+	 *             anymore
+	 */
+	void verify(IBreakpoint breakpoint, CompilationUnit unit) throws CoreException {
+		if (breakpoint instanceof JavaClassPrepareBreakpoint
+				|| breakpoint instanceof JavaWatchpoint
+				|| breakpoint instanceof JavaMethodEntryBreakpoint
+				|| breakpoint instanceof JavaMethodBreakpoint) {
+			unit.accept(new BreakpointVerifier(breakpoint, unit));
+		} else if (breakpoint instanceof JavaLineBreakpoint) {
+			JavaLineBreakpoint bp = (JavaLineBreakpoint) breakpoint;
+			// line breakpoint use the ValidBreakpointLocationLocator to
+			// (re)place it
+			int currentline = bp.getLineNumber();
+			ValidBreakpointLocationLocator locator = new ValidBreakpointLocationLocator(
+					unit, currentline, true, true);
+			unit.accept(locator);
+			int newline = locator.getLineLocation();
+			if (locator.getLocationType() == ValidBreakpointLocationLocator.LOCATION_LINE) {
+				if (currentline != newline) {
+					if (locator.getFullyQualifiedTypeName() == null) {
+						throw new CoreException(Status.CANCEL_STATUS);
 					}
-				} else {
-					// the line breakpoint will not be a line breakpoint anymore
-					// get rid of it
-					throw new CoreException(Status.CANCEL_STATUS);
+					bp.getMarker().setAttribute(JavaBreakpoint.TYPE_NAME,
+							locator.getFullyQualifiedTypeName());
+					bp.getMarker().setAttribute(IMarker.LINE_NUMBER,
+							newline);
+					int length = bp.getCharEnd() - bp.getCharStart();
+					int pos = unit.getPosition(newline, 1);
+					bp.getMarker().setAttribute(IMarker.CHAR_START, pos);
+					bp.getMarker().setAttribute(IMarker.CHAR_END,
+							pos + length);
 				}
+			} else {
+				// the line breakpoint will not be a line breakpoint anymore
+				// get rid of it
+				throw new CoreException(Status.CANCEL_STATUS);
 			}
 		}
 	}
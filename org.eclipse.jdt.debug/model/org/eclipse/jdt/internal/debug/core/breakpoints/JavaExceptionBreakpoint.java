@@ -19,7 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -29,12 +29,12 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.debug.core.DebugException;
-import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
@@ -44,7 +44,6 @@ import org.eclipse.jdt.internal.debug.core.model.MethodResult.ResultType;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.ClassType;
-import com.sun.jdi.Location;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadReference;
@@ -133,6 +132,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected String[] fExclusionClassFilters = null;
 
+	/**
+	 * Number of exception events discarded because of class filters
+	 */
+	private final AtomicInteger fDiscardedEventCount = new AtomicInteger();
+
 	private ObjectReference fLastException;
 	private JDIDebugTarget fLastTarget;
 
@@ -403,44 +407,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			}
 			setExceptionName(name);
 			disableTriggerPoint(event);
-			IBreakpoint[] allBreakpoints = DebugPlugin.getDefault().getBreakpointManager().getBreakpoints();
-			for (IBreakpoint iBreakpoint : allBreakpoints) {
-				if (iBreakpoint instanceof JavaExceptionBreakpoint) {
-					JavaExceptionBreakpoint jExceptionBreakpoint = (JavaExceptionBreakpoint)iBreakpoint;
-					try {
-						//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
-						// This does not have scope defined
-						if (jExceptionBreakpoint.getTypeName().equals(name)) {
-							if (jExceptionBreakpoint.getExclusionClassFilters().length >= 1
-						|| jExceptionBreakpoint.getInclusionClassFilters().length >= 1
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fInclusionClassFilters)
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fExclusionClassFilters)) {
-							Location location = ((ExceptionEvent) event).location();
-							String typeName = location.declaringType().name();
-							boolean defaultPackage = typeName.indexOf('.') == -1;
-							boolean included = true;
-							String[] filters = jExceptionBreakpoint.getInclusionClassFilters();
-							if (filters.length > 0) {
-								included = matchesFilters(filters, typeName, defaultPackage);
-							}
-							boolean excluded = false;
-							filters = jExceptionBreakpoint.getExclusionClassFilters();
-							if (filters.length > 0) {
-								excluded = matchesFilters(filters, typeName, defaultPackage);
-							}
-							if (included && !excluded) {
-								return !suspend(thread, suspendVote);
-							}
-							return true;
-							}
-						}
-					}
-					catch (CoreException e) {
-						e.printStackTrace();
-					}
-				}
+			ExceptionBreakpointIndex.ClassFilters filters = thread.getJavaDebugTarget().getExceptionBreakpointIndex().getFilters(name);
+			if (filters != null && !filters.accepts(((ExceptionEvent) event).location().declaringType().name())) {
+				fDiscardedEventCount.incrementAndGet();
+				return true;
 			}
-
 			return !suspend(thread, suspendVote);
 		}
 		return true;
@@ -481,53 +452,6 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 		super.setInstalledIn(target, installed);
 	}
 
-	/**
-	 * Determines of the filters for this exception include the default package
-	 * or not
-	 *
-	 * @param filters
-	 *            the list of filters to inspect
-	 * @return true if any one of the specified filters include the default
-	 *         package
-	 */
-	protected boolean filtersIncludeDefaultPackage(String[] filters) {
-		for (String filter : filters) {
-			if (filter.length() == 0 || (filter.indexOf('.') == -1)) {
-				return true;
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Returns whether the given type is in the given filter set.
-	 *
-	 * @param filters
-	 *            the filter set
-	 * @param typeName
-	 *            fully qualified type name
-	 * @param defaultPackage
-	 *            whether the type name is in the default package
-	 * @return boolean
-	 */
-	protected boolean matchesFilters(String[] filters, String typeName,
-			boolean defaultPackage) {
-		for (String filter2 : filters) {
-			String filter = filter2;
-			if (defaultPackage && filter.length() == 0) {
-				return true;
-			}
-
-			filter = filter.replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
-			filter = filter.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
-			Pattern pattern = Pattern.compile(filter);
-			if (pattern.matcher(typeName).find()) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	/**
 	 * Sets the name of the exception that was last hit
 	 *
@@ -596,19 +520,72 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 		ExceptionRequest request = (ExceptionRequest) eRequest;
 
-		if (iFilters.length == 1) {
-			if (eFilters.length == 0) {
-				request.addClassFilter(iFilters[0]);
-			}
-		} else if (eFilters.length == 1) {
-			if (iFilters.length == 0) {
-				request.addClassExclusionFilter(eFilters[0]);
+		// The VM only reports events passing all of its class filters, so a
+		// single inclusion filter and every exclusion filter can be evaluated
+		// by the VM. The filters are still applied when handling the event,
+		// since the VM matches patterns as prefix or suffix only.
+		int vmFilters = 0;
+		if (iFilters.length == 1 && isVMClassPattern(iFilters[0])) {
+			request.addClassFilter(iFilters[0]);
+			vmFilters++;
+		}
+		for (String filter : eFilters) {
+			if (isVMClassPattern(filter)) {
+				request.addClassExclusionFilter(filter);
+				vmFilters++;
 			}
 		}
+		if (JDIDebugOptions.DEBUG_JDI_EVENTS && iFilters.length + eFilters.length > 0) {
+			JDIDebugOptions.trace(NLS.bind("Exception request for {0}: {1} of {2} class filters evaluated by the VM", //$NON-NLS-1$
+					new Object[] { getTypeName(), Integer.valueOf(vmFilters), Integer.valueOf(iFilters.length + eFilters.length) }));
+		}
 
 		super.configureRequest(eRequest, target);
 	}
 
+	/**
+	 * Returns whether the given class filter can be passed to the VM as a
+	 * class pattern. The VM supports exact type names and patterns starting
+	 * or ending with a single wildcard.
+	 *
+	 * @param filter
+	 *            class filter
+	 * @return whether the VM can evaluate the filter
+	 */
+	private static boolean isVMClassPattern(String filter) {
+		if (filter.isEmpty()) {
+			// the default package
+			return false;
+		}
+		int wildcard = filter.indexOf('*');
+		if (wildcard == 0) {
+			return filter.indexOf('*', 1) == -1;
+		}
+		return wildcard == -1 || wildcard == filter.length() - 1;
+	}
+
+	/**
+	 * Returns the number of exception events the VM reported for this
+	 * breakpoint that were discarded because of the class filters. Class
+	 * filters evaluated by the VM avoid these events altogether.
+	 *
+	 * @return number of events discarded by class filters
+	 */
+	public int getDiscardedEventCount() {
+		return fDiscardedEventCount.get();
+	}
+
+	/**
+	 * Discards the exception breakpoint index of the target, since the filters of this breakpoint may have changed.
+	 *
+	 * @see JavaBreakpoint#recreate(JDIDebugTarget)
+	 */
+	@Override
+	protected void recreate(JDIDebugTarget target) throws CoreException {
+		target.getExceptionBreakpointIndex().clear();
+		super.recreate(target);
+	}
+
 	/**
 	 * Serializes the array of Strings into one comma separated String. Removes
 	 * duplicates.
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -23,6 +25,7 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaMethodBreakpoint;
@@ -93,6 +96,12 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 */
 	protected static final String NATIVE = "org.eclipse.jdt.debug.core.native"; //$NON-NLS-1$
 
+	/**
+	 * Property set on the breakpoint requests installed at the return
+	 * instructions of the method, which report method exits.
+	 */
+	private static final String RETURN_SITE = "org.eclipse.jdt.debug.core.returnSite"; //$NON-NLS-1$
+
 	/**
 	 * Cache of method name attribute
 	 */
@@ -281,20 +290,14 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		if (manager != null) {
 			try {
 				if (entry) {
-					if (classFilter instanceof ClassType && getMethodName() != null
-							&& getMethodSignature() != null) {
+					if (classFilter instanceof ReferenceType) {
 						// use a line breakpoint if possible for better performance
-						ClassType clazz = (ClassType) classFilter;
-						if (clazz.name().equals(getTypeName())) {
-							// only use line breakpoint when there is an exact match
-							Method method = clazz.concreteMethodByName(
-									getMethodName(), getMethodSignature());
-							if (method != null && !method.isNative()) {
-								Location location = method.location();
-								if (location != null && location.codeIndex() != -1) {
-									request = manager
-											.createBreakpointRequest(location);
-								}
+						Method method = getConcreteMethod((ReferenceType) classFilter);
+						if (method != null) {
+							Location location = method.location();
+							if (location != null && location.codeIndex() != -1) {
+								request = manager
+										.createBreakpointRequest(location);
 							}
 						}
 					}
@@ -335,6 +338,110 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		return null;
 	}
 
+	/**
+	 * Returns the method of the given type on which a breakpoint request can
+	 * be installed for this breakpoint, or <code>null</code> if the type is not
+	 * an exact match or the method has no bytecodes.
+	 *
+	 * @param type
+	 *            the type on which to create requests
+	 * @return the method to install requests in or <code>null</code>
+	 * @exception CoreException
+	 *                if an exception occurs accessing this breakpoint's
+	 *                underlying marker
+	 */
+	private Method getConcreteMethod(ReferenceType type) throws CoreException {
+		if (getMethodName() == null || getMethodSignature() == null
+				|| !type.name().equals(getTypeName())) {
+			return null;
+		}
+		Method method = null;
+		if (type instanceof ClassType) {
+			method = ((ClassType) type).concreteMethodByName(getMethodName(),
+					getMethodSignature());
+		} else if (isInstalledAtLocations()) {
+			// default methods of interfaces
+			List<Method> methods = type.methodsByName(getMethodName(),
+					getMethodSignature());
+			if (methods.size() == 1) {
+				method = methods.get(0);
+			}
+		}
+		if (method == null || method.isNative() || method.isAbstract()) {
+			return null;
+		}
+		return method;
+	}
+
+	/**
+	 * Returns whether method breakpoints are installed as breakpoints at the
+	 * locations of their method rather than as method entry and exit
+	 * requests.
+	 *
+	 * @return whether method breakpoints are installed at locations
+	 */
+	private boolean isInstalledAtLocations() {
+		return Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_METHOD_BREAKPOINTS_AT_LOCATIONS, false,
+				null);
+	}
+
+	/**
+	 * Returns breakpoint requests at each return instruction of this
+	 * breakpoint's method in the given type, or <code>null</code> if method
+	 * exits must be reported by a method exit request. Exits by exception are
+	 * not reported by these requests.
+	 *
+	 * @param target
+	 *            the debug target in which to create the requests
+	 * @param type
+	 *            the type on which to create the requests
+	 * @return breakpoint requests at the return instructions or
+	 *         <code>null</code>
+	 * @exception CoreException
+	 *                if an exception occurs accessing this breakpoint's
+	 *                underlying marker
+	 */
+	private List<EventRequest> createMethodReturnRequests(
+			JDIDebugTarget target, ReferenceType type) throws CoreException {
+		if (!isInstalledAtLocations() || isNativeOnly()) {
+			return null;
+		}
+		EventRequestManager manager = target.getEventRequestManager();
+		if (manager == null) {
+			return null;
+		}
+		List<EventRequest> requests = new ArrayList<>();
+		try {
+			Method method = getConcreteMethod(type);
+			if (method == null || !method.declaringType().equals(type)) {
+				return null;
+			}
+			List<Location> locations = MethodReturnSites.getReturnLocations(method);
+			// the VM counts hits per request, which would count the hits of
+			// each return instruction separately
+			if (locations == null || locations.isEmpty()
+					|| (locations.size() > 1 && getHitCount() > 0)) {
+				return null;
+			}
+			for (Location location : locations) {
+				EventRequest request = manager.createBreakpointRequest(location);
+				request.putProperty(RETURN_SITE, Boolean.TRUE);
+				requests.add(request);
+				configureRequest(request, target);
+			}
+		} catch (VMDisconnectedException e) {
+			if (!target.isAvailable()) {
+				return requests;
+			}
+			JDIDebugPlugin.log(e);
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+		return requests;
+	}
+
 	/**
 	 * @see JavaBreakpoint#setRequestThreadFilter(EventRequest, ThreadReference)
 	 */
@@ -375,14 +482,15 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	protected void updateEnabledState(EventRequest request,
 			JDIDebugTarget target) throws CoreException {
 		boolean enabled = isEnabled();
-		if (request instanceof MethodEntryRequest
+		if (request instanceof MethodExitRequest
+				|| request.getProperty(RETURN_SITE) != null) {
+			enabled = enabled && isExit();
+		} else if (request instanceof MethodEntryRequest
 				|| request instanceof BreakpointRequest) {
 			enabled = enabled && isEntry();
-		} else if (request instanceof MethodExitRequest) {
-			enabled = enabled && isExit();
 		}
 
-		if (enabled != request.isEnabled()) {
+		if (enabled != target.isRequestEnabled(request)) {
 			internalUpdateEnabledState(request, enabled, target);
 		}
 	}
@@ -439,7 +547,11 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			}
 			return result;
 		} else if (event instanceof BreakpointEvent) {
-			fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
+			if (event.request().getProperty(RETURN_SITE) != null) {
+				fLastEventTypes.put(thread.getDebugTarget(), EXIT_EVENT);
+			} else {
+				fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
+			}
 			return super.handleBreakpointEvent(event, thread, suspendVote);
 		}
 		return true;
@@ -747,10 +859,16 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			return false;
 		}
 		EventRequest entryRequest = createMethodEntryRequest(target, type);
-		EventRequest exitRequest = createMethodExitRequest(target, type);
-
 		registerRequest(entryRequest, target);
-		registerRequest(exitRequest, target);
+		List<EventRequest> returnRequests = createMethodReturnRequests(target, type);
+		if (returnRequests == null) {
+			EventRequest exitRequest = createMethodExitRequest(target, type);
+			registerRequest(exitRequest, target);
+		} else {
+			for (EventRequest returnRequest : returnRequests) {
+				registerRequest(returnRequest, target);
+			}
+		}
 		return true;
 	}
 
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -31,16 +34,19 @@ import org.eclipse.jdt.debug.core.IJavaWatchpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.Field;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.event.AccessWatchpointEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventSet;
 import com.sun.jdi.event.ModificationWatchpointEvent;
+import com.sun.jdi.event.WatchpointEvent;
 import com.sun.jdi.request.AccessWatchpointRequest;
 import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
@@ -79,6 +85,13 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 	 * attribute is a <code>String</code>.
 	 */
 	protected static final String FIELD_NAME = "org.eclipse.jdt.debug.core.fieldName"; //$NON-NLS-1$
+	/**
+	 * Watchpoint attribute storing the filter on the values assigned to the
+	 * field (value <code>"org.eclipse.jdt.debug.core.valueFilter"</code>).
+	 * This attribute is a <code>String</code>, a comparison operator followed
+	 * by a literal, such as <code>"&gt; 100"</code> or <code>"!= null"</code>.
+	 */
+	protected static final String VALUE_FILTER = "org.eclipse.jdt.debug.core.valueFilter"; //$NON-NLS-1$
 	/**
 	 * Flag indicating that this breakpoint last suspended execution due to a
 	 * field access
@@ -98,6 +111,21 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 	 * </ol>
 	 */
 	private final HashMap<JDIDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
+	/**
+	 * Modification events whose value did not pass the value filter, until
+	 * their event set completes
+	 */
+	private final Set<Event> fFilteredEvents = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+	/**
+	 * Events for which this watchpoint suspended the VM itself, since the VM
+	 * only suspended the event thread, until their event set completes
+	 */
+	private final Set<Event> fVMSuspendedEvents = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+	/**
+	 * Value filter last parsed and its text, or <code>null</code>
+	 */
+	private String fValueFilterText;
+	private WatchpointValueFilter fValueFilter;
 
 	public JavaWatchpoint() {
 	}
@@ -469,11 +497,163 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 		if (event instanceof AccessWatchpointEvent) {
 			fLastEventTypes.put(target, ACCESS_EVENT);
 		} else if (event instanceof ModificationWatchpointEvent) {
+			if (!acceptsValue((ModificationWatchpointEvent) event)) {
+				// resume without building any model object for the thread
+				fFilteredEvents.add(event);
+				target.breakpointEventHandled(false);
+				return true;
+			}
 			fLastEventTypes.put(target, MODIFICATION_EVENT);
 		}
+		suspendVM(event, target);
 		return super.handleEvent(event, target, suspendVote, eventSet);
 	}
 
+	@Override
+	public void eventSetComplete(Event event, JDIDebugTarget target,
+			boolean suspend, EventSet eventSet) {
+		if (fFilteredEvents.remove(event)) {
+			return;
+		}
+		super.eventSetComplete(event, target, suspend, eventSet);
+		if (fVMSuspendedEvents.remove(event)) {
+			try {
+				if (suspend) {
+					// leave the event thread suspended once, as other threads
+					((WatchpointEvent) event).thread().resume();
+				} else {
+					VirtualMachine vm = target.getVM();
+					if (vm != null) {
+						vm.resume();
+					}
+				}
+			} catch (VMDisconnectedException e) {
+			} catch (RuntimeException e) {
+				target.internalError(e);
+			}
+		}
+	}
+
+	/**
+	 * While a value filter is set, the VM only suspends the thread of the
+	 * events of this watchpoint, so that modifications that do not pass the
+	 * filter do not stop other threads. Suspends the VM for an event that is
+	 * to be handled, if this watchpoint suspends the VM.
+	 */
+	private void suspendVM(Event event, JDIDebugTarget target) {
+		try {
+			if (event.request().suspendPolicy() == EventRequest.SUSPEND_EVENT_THREAD
+					&& getSuspendPolicy() == SUSPEND_VM) {
+				VirtualMachine vm = target.getVM();
+				if (vm != null) {
+					vm.suspend();
+					fVMSuspendedEvents.add(event);
+				}
+			}
+		} catch (CoreException e) {
+			JDIDebugPlugin.log(e);
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+	}
+
+	/**
+	 * Suspends only the event thread while a value filter is set, see
+	 * {@link #suspendVM(Event, JDIDebugTarget)}.
+	 */
+	@Override
+	protected int getJDISuspendPolicy() throws CoreException {
+		if (getParsedValueFilter() != null) {
+			return EventRequest.SUSPEND_EVENT_THREAD;
+		}
+		return super.getJDISuspendPolicy();
+	}
+
+	/**
+	 * Returns whether the value to be assigned by the given event passes the
+	 * value filter of this watchpoint, if any.
+	 */
+	private boolean acceptsValue(ModificationWatchpointEvent event) {
+		WatchpointValueFilter filter;
+		try {
+			filter = getParsedValueFilter();
+		} catch (CoreException e) {
+			JDIDebugPlugin.log(e);
+			return true;
+		}
+		if (filter == null) {
+			return true;
+		}
+		try {
+			return filter.accepts(event.valueToBe());
+		} catch (VMDisconnectedException e) {
+			return true;
+		} catch (RuntimeException e) {
+			JDIDebugPlugin.log(e);
+			return true;
+		}
+	}
+
+	private synchronized WatchpointValueFilter getParsedValueFilter() throws CoreException {
+		String text = getValueFilter();
+		if (text == null) {
+			return null;
+		}
+		if (!text.equals(fValueFilterText)) {
+			fValueFilter = WatchpointValueFilter.parse(text);
+			fValueFilterText = text;
+		}
+		return fValueFilter;
+	}
+
+	/**
+	 * Returns the filter on the values assigned to the field, or
+	 * <code>null</code> if this watchpoint suspends on any modification of the
+	 * field.
+	 *
+	 * @return value filter or <code>null</code>
+	 * @exception CoreException
+	 *                if unable to access the property on this breakpoint's
+	 *                underlying marker
+	 */
+	public String getValueFilter() throws CoreException {
+		return ensureMarker().getAttribute(VALUE_FILTER, null);
+	}
+
+	/**
+	 * Sets the filter on the values assigned to the field. Modifications of
+	 * the field with a value not passing the filter are resumed as soon as
+	 * they are reported by the VM, without suspending the thread in the debug
+	 * model. The filter is a comparison operator among <code>==</code>,
+	 * <code>!=</code>, <code>&lt;</code>, <code>&lt;=</code>,
+	 * <code>&gt;</code> and <code>&gt;=</code>, followed by a literal:
+	 * <code>null</code>, <code>true</code>, <code>false</code>, a number, a
+	 * character literal or a string literal. While a filter is set, the VM
+	 * only suspends the modifying thread until the value is tested, and other
+	 * threads are suspended when the value passes if this watchpoint suspends
+	 * the VM.
+	 *
+	 * @param filter
+	 *            value filter or <code>null</code> to suspend on any
+	 *            modification
+	 * @exception CoreException
+	 *                if the filter is not valid or unable to set the property
+	 *                on this breakpoint's underlying marker
+	 */
+	public void setValueFilter(String filter) throws CoreException {
+		if (filter != null && filter.trim().length() == 0) {
+			filter = null;
+		}
+		if (filter != null && WatchpointValueFilter.parse(filter) == null) {
+			throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED,
+					NLS.bind(JDIDebugBreakpointMessages.JavaWatchpoint_invalid_value_filter, filter), null));
+		}
+		setAttributes(new String[] { VALUE_FILTER }, new Object[] { filter });
+		// the suspend policy of the requests depends on the filter
+		recreate();
+	}
+
 	/**
 	 * @see JavaBreakpoint#updateEnabledState(EventRequest, JDIDebugTarget)
 	 */
@@ -483,22 +663,22 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 		boolean enabled = isEnabled();
 		if (request instanceof AccessWatchpointRequest) {
 			if (isAccess()) {
-				if (enabled != request.isEnabled()) {
+				if (enabled != target.isRequestEnabled(request)) {
 					internalUpdateEnabledState(request, enabled, target);
 				}
 			} else {
-				if (request.isEnabled()) {
+				if (target.isRequestEnabled(request)) {
 					internalUpdateEnabledState(request, false, target);
 				}
 			}
 		}
 		if (request instanceof ModificationWatchpointRequest) {
 			if (isModification()) {
-				if (enabled != request.isEnabled()) {
+				if (enabled != target.isRequestEnabled(request)) {
 					internalUpdateEnabledState(request, enabled, target);
 				}
 			} else {
-				if (request.isEnabled()) {
+				if (target.isRequestEnabled(request)) {
 					internalUpdateEnabledState(request, false, target);
 				}
 			}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+
+/**
+ * Finds the return instructions of a method by walking its bytecodes, so that method exit breakpoints can be installed as breakpoints at these
+ * locations instead of as method exit requests.
+ */
+class MethodReturnSites {
+
+	private static final int TABLESWITCH = 0xaa;
+	private static final int LOOKUPSWITCH = 0xab;
+	private static final int IRETURN = 0xac;
+	private static final int RETURN = 0xb1;
+	private static final int WIDE = 0xc4;
+	private static final int IINC = 0x84;
+
+	/**
+	 * Length of each instruction by opcode, or 0 for instructions of variable length and undefined opcodes
+	 */
+	private static final byte[] fgLengths = new byte[256];
+
+	static {
+		setLength(0x00, 0x0f, 1); // nop .. dconst_1
+		setLength(0x10, 0x10, 2); // bipush
+		setLength(0x11, 0x11, 3); // sipush
+		setLength(0x12, 0x12, 2); // ldc
+		setLength(0x13, 0x14, 3); // ldc_w, ldc2_w
+		setLength(0x15, 0x19, 2); // iload .. aload
+		setLength(0x1a, 0x35, 1); // iload_0 .. saload
+		setLength(0x36, 0x3a, 2); // istore .. astore
+		setLength(0x3b, 0x83, 1); // istore_0 .. lxor
+		setLength(0x84, 0x84, 3); // iinc
+		setLength(0x85, 0x98, 1); // i2l .. dcmpg
+		setLength(0x99, 0xa8, 3); // ifeq .. jsr
+		setLength(0xa9, 0xa9, 2); // ret
+		setLength(0xac, 0xb1, 1); // ireturn .. return
+		setLength(0xb2, 0xb8, 3); // getstatic .. invokestatic
+		setLength(0xb9, 0xba, 5); // invokeinterface, invokedynamic
+		setLength(0xbb, 0xbb, 3); // new
+		setLength(0xbc, 0xbc, 2); // newarray
+		setLength(0xbd, 0xbd, 3); // anewarray
+		setLength(0xbe, 0xbf, 1); // arraylength, athrow
+		setLength(0xc0, 0xc1, 3); // checkcast, instanceof
+		setLength(0xc2, 0xc3, 1); // monitorenter, monitorexit
+		setLength(0xc5, 0xc5, 4); // multianewarray
+		setLength(0xc6, 0xc7, 3); // ifnull, ifnonnull
+		setLength(0xc8, 0xc9, 5); // goto_w, jsr_w
+	}
+
+	private static void setLength(int from, int to, int length) {
+		for (int opcode = from; opcode <= to; opcode++) {
+			fgLengths[opcode] = (byte) length;
+		}
+	}
+
+	private static int readInt(byte[] bytecodes, int index) {
+		return ((bytecodes[index] & 0xff) << 24) | ((bytecodes[index + 1] & 0xff) << 16) | ((bytecodes[index + 2] & 0xff) << 8)
+				| (bytecodes[index + 3] & 0xff);
+	}
+
+	/**
+	 * Returns the code indices of the return instructions in the given bytecodes, or <code>null</code> if the bytecodes cannot be decoded.
+	 *
+	 * @param bytecodes
+	 *            bytecodes of a method
+	 * @return code indices of return instructions or <code>null</code>
+	 */
+	static List<Integer> getReturnIndices(byte[] bytecodes) {
+		List<Integer> indices = new ArrayList<>();
+		int pc = 0;
+		try {
+			while (pc < bytecodes.length) {
+				int opcode = bytecodes[pc] & 0xff;
+				int length;
+				if (opcode >= IRETURN && opcode <= RETURN) {
+					indices.add(Integer.valueOf(pc));
+					length = 1;
+				} else if (opcode == TABLESWITCH || opcode == LOOKUPSWITCH) {
+					// operands are aligned on four bytes from the start of the code
+					int operands = pc + 1 + ((4 - ((pc + 1) % 4)) % 4);
+					if (opcode == TABLESWITCH) {
+						int low = readInt(bytecodes, operands + 4);
+						int high = readInt(bytecodes, operands + 8);
+						length = operands - pc + 12 + 4 * (high - low + 1);
+					} else {
+						int pairs = readInt(bytecodes, operands + 4);
+						length = operands - pc + 8 + 8 * pairs;
+					}
+				} else if (opcode == WIDE) {
+					length = (bytecodes[pc + 1] & 0xff) == IINC ? 6 : 4;
+				} else {
+					length = fgLengths[opcode];
+				}
+				if (length <= 0) {
+					return null;
+				}
+				pc += length;
+			}
+		} catch (ArrayIndexOutOfBoundsException e) {
+			return null;
+		}
+		return indices;
+	}
+
+	/**
+	 * Returns the locations of the return instructions of the given method, or <code>null</code> if the bytecodes of the method are not available
+	 * or cannot be decoded.
+	 *
+	 * @param method
+	 *            a method with bytecodes
+	 * @return locations of return instructions or <code>null</code>
+	 */
+	static List<Location> getReturnLocations(Method method) {
+		if (!method.virtualMachine().canGetBytecodes()) {
+			return null;
+		}
+		List<Integer> indices = getReturnIndices(method.bytecodes());
+		if (indices == null) {
+			return null;
+		}
+		List<Location> locations = new ArrayList<>(indices.size());
+		for (Integer index : indices) {
+			Location location = method.locationOfCodeIndex(index.intValue());
+			if (location == null) {
+				return null;
+			}
+			locations.add(location);
+		}
+		return locations;
+	}
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import com.sun.jdi.BooleanValue;
+import com.sun.jdi.CharValue;
+import com.sun.jdi.DoubleValue;
+import com.sun.jdi.FloatValue;
+import com.sun.jdi.PrimitiveValue;
+import com.sun.jdi.StringReference;
+import com.sun.jdi.Value;
+
+/**
+ * Predicate on the value a field is about to be set to, which a modification watchpoint tests against the value carried by the event, before
+ * building any model object for the event. Threads of events whose value does not pass are resumed right away.
+ * <p>
+ * A filter is a comparison operator among <code>==</code>, <code>!=</code>, <code>&lt;</code>, <code>&lt;=</code>, <code>&gt;</code> and
+ * <code>&gt;=</code> followed by a literal: <code>null</code>, <code>true</code>, <code>false</code>, a number, a character literal or a string
+ * literal, for instance <code>&gt; 100</code> or <code>!= null</code>.
+ * </p>
+ */
+class WatchpointValueFilter {
+
+	private static final String[] OPERATORS = { "==", "!=", "<=", ">=", "<", ">" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	private final String fOperator;
+
+	/**
+	 * The literal, as a {@link Boolean}, {@link Character}, {@link Long}, {@link Double} or {@link String}, or <code>null</code>
+	 */
+	private final Object fLiteral;
+
+	private WatchpointValueFilter(String operator, Object literal) {
+		fOperator = operator;
+		fLiteral = literal;
+	}
+
+	/**
+	 * Returns the filter described by the given text, or <code>null</code> if the text is not a valid filter.
+	 *
+	 * @param text
+	 *            operator followed by a literal
+	 * @return filter or <code>null</code>
+	 */
+	static WatchpointValueFilter parse(String text) {
+		if (text == null) {
+			return null;
+		}
+		text = text.trim();
+		for (String operator : OPERATORS) {
+			if (text.startsWith(operator)) {
+				String literal = text.substring(operator.length()).trim();
+				if (literal.isEmpty()) {
+					return null;
+				}
+				try {
+					Object value = parseLiteral(literal);
+					if (value == null && !literal.equals("null")) { //$NON-NLS-1$
+						return null;
+					}
+					if (!(value instanceof Number || value instanceof Character || operator.equals("==") || operator.equals("!="))) { //$NON-NLS-1$ //$NON-NLS-2$
+						// only numbers and characters are ordered
+						return null;
+					}
+					return new WatchpointValueFilter(operator, value);
+				} catch (NumberFormatException e) {
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static Object parseLiteral(String literal) {
+		switch (literal) {
+			case "null": //$NON-NLS-1$
+				return null;
+			case "true": //$NON-NLS-1$
+				return Boolean.TRUE;
+			case "false": //$NON-NLS-1$
+				return Boolean.FALSE;
+		}
+		int length = literal.length();
+		if (length >= 2 && literal.charAt(0) == '"' && literal.charAt(length - 1) == '"') {
+			return literal.substring(1, length - 1);
+		}
+		if (length == 3 && literal.charAt(0) == '\'' && literal.charAt(2) == '\'') {
+			return Character.valueOf(literal.charAt(1));
+		}
+		String number = literal.replace("_", ""); //$NON-NLS-1$ //$NON-NLS-2$
+		char last = Character.toLowerCase(number.charAt(number.length() - 1));
+		if (last == 'l') {
+			return Long.valueOf(number.substring(0, number.length() - 1));
+		}
+		if (last == 'd' || last == 'f' || number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+			return Double.valueOf(number);
+		}
+		return Long.valueOf(number);
+	}
+
+	/**
+	 * Returns whether the given value passes this filter. A value that cannot be compared with the literal passes, so that the thread suspends
+	 * rather than missing a modification.
+	 *
+	 * @param value
+	 *            value to be set, as carried by a modification watchpoint event
+	 * @return whether the thread should suspend for the value
+	 */
+	boolean accepts(Value value) {
+		if (fLiteral == null || value == null) {
+			boolean same = fLiteral == null && value == null;
+			if (fLiteral == null && value instanceof PrimitiveValue) {
+				return true;
+			}
+			return fOperator.equals("==") ? same : !same; //$NON-NLS-1$
+		}
+		int comparison;
+		if (fLiteral instanceof Boolean) {
+			if (!(value instanceof BooleanValue)) {
+				return true;
+			}
+			comparison = ((BooleanValue) value).value() == ((Boolean) fLiteral).booleanValue() ? 0 : 1;
+		} else if (fLiteral instanceof String) {
+			if (!(value instanceof StringReference)) {
+				return true;
+			}
+			comparison = ((StringReference) value).value().equals(fLiteral) ? 0 : 1;
+		} else if (value instanceof PrimitiveValue && !(value instanceof BooleanValue)) {
+			PrimitiveValue primitive = (PrimitiveValue) value;
+			if (fLiteral instanceof Double || value instanceof DoubleValue || value instanceof FloatValue) {
+				double literal = fLiteral instanceof Character ? ((Character) fLiteral).charValue() : ((Number) fLiteral).doubleValue();
+				return accepts(primitive.doubleValue(), literal);
+			}
+			long literal = fLiteral instanceof Character ? ((Character) fLiteral).charValue() : ((Number) fLiteral).longValue();
+			long actual = value instanceof CharValue ? ((CharValue) value).value() : primitive.longValue();
+			comparison = Long.compare(actual, literal);
+		} else {
+			return true;
+		}
+		switch (fOperator) {
+			case "==": //$NON-NLS-1$
+				return comparison == 0;
+			case "!=": //$NON-NLS-1$
+				return comparison != 0;
+			case "<": //$NON-NLS-1$
+				return comparison < 0;
+			case "<=": //$NON-NLS-1$
+				return comparison <= 0;
+			case ">": //$NON-NLS-1$
+				return comparison > 0;
+			default:
+				return comparison >= 0;
+		}
+	}
+
+	/**
+	 * Compares floating point values as the Java operators do: <code>-0.0 == 0.0</code>, and any comparison with NaN is false except
+	 * <code>!=</code>.
+	 */
+	private boolean accepts(double actual, double literal) {
+		switch (fOperator) {
+			case "==": //$NON-NLS-1$
+				return actual == literal;
+			case "!=": //$NON-NLS-1$
+				return actual != literal;
+			case "<": //$NON-NLS-1$
+				return actual < literal;
+			case "<=": //$NON-NLS-1$
+				return actual <= literal;
+			case ">": //$NON-NLS-1$
+				return actual > literal;
+			default:
+				return actual >= literal;
+		}
+	}
+}
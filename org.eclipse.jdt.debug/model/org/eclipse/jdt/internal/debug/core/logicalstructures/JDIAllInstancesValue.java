@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.debug.core.logicalstructures;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
@@ -28,6 +29,7 @@ import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIPlaceholderValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
+import org.eclipse.jdt.internal.debug.core.model.ObjectReferenceList;
 
 
 
@@ -39,10 +41,11 @@ import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
  */
 public class JDIAllInstancesValue extends JDIArrayValue {
 
-	private IJavaObject[] fInstances;
+	private ObjectReferenceList fInstances;
 	private final JDIReferenceType fRoot;
 	private IJavaArrayType fType;
 	private boolean fIsMoreThanPreference;
+	private int fMax;
 
 	/**
 	 * Constructor, specifies whether there are more instances available than
@@ -69,34 +72,67 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 * @return an array of java objects that are instances of the root type
 	 */
 	protected IJavaObject[] getInstances() {
+		int count = getInstanceCount();
+		IJavaObject[] instances = new IJavaObject[count];
+		for (int i = 0; i < count; i++) {
+			instances[i] = getInstance(i);
+		}
+		return instances;
+	}
+
+	/**
+	 * Retrieves the instances of the root type on first access. The values of
+	 * the instances are only created as they are accessed.
+	 *
+	 * @return instances of the root type, including the one past the maximum
+	 *         count of the preferences, if any
+	 */
+	private synchronized ObjectReferenceList getInstanceList() {
 		if (fInstances != null) {
 			return fInstances;
 		}
-		IJavaObject[] instances = new IJavaObject[0];
+		ObjectReferenceList instances = null;
 		fIsMoreThanPreference = false;
 		if (fRoot != null) {
-			int max = HeapWalkingManager.getDefault()
-					.getAllInstancesMaxCount();
+			fMax = HeapWalkingManager.getDefault().getAllInstancesMaxCount();
 			try {
-				if (max == 0) {
-					instances = fRoot.getInstances(max);
-				} else {
-					instances = fRoot.getInstances(max + 1);
-					if (instances.length > max) {
-						instances[max] = new JDIPlaceholderValue(
-								(JDIDebugTarget) fRoot.getDebugTarget(),
-								MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_2, Integer.toString(max)));
-						fIsMoreThanPreference = true;
-					}
-				}
+				instances = fRoot.getInstanceList(fMax == 0 ? fMax : fMax + 1);
+				fIsMoreThanPreference = fMax != 0 && instances.size() > fMax;
 			} catch (DebugException e) {
 				JDIDebugPlugin.log(e);
 			}
 		}
+		if (instances == null) {
+			instances = new ObjectReferenceList(getJavaDebugTarget(), Collections.emptyList());
+		}
 		fInstances = instances;
 		return instances;
 	}
 
+	/**
+	 * @return number of instances, including a placeholder if there are more
+	 *         than the preference
+	 */
+	private int getInstanceCount() {
+		return getInstanceList().size();
+	}
+
+	/**
+	 * Returns the instance at the given index, or a placeholder past the
+	 * maximum count of the preferences.
+	 *
+	 * @param index
+	 *            index of the instance
+	 * @return instance or placeholder
+	 */
+	private IJavaObject getInstance(int index) {
+		ObjectReferenceList instances = getInstanceList();
+		if (fIsMoreThanPreference && index == fMax) {
+			return new JDIPlaceholderValue((JDIDebugTarget) fRoot.getDebugTarget(), MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_2, Integer.toString(fMax)));
+		}
+		return instances.get(index);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -104,7 +140,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public synchronized int getLength() throws DebugException {
-		return getInstances().length;
+		return getInstanceCount();
 	}
 
 	/*
@@ -114,7 +150,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public int getSize() throws DebugException {
-		return getInstances().length;
+		return getInstanceCount();
 	}
 
 	/*
@@ -125,10 +161,10 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IJavaValue getValue(int index) throws DebugException {
-		if (index > getInstances().length - 1 || index < 0) {
+		if (index > getInstanceCount() - 1 || index < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_0);
 		}
-		return getInstances()[index];
+		return getInstance(index);
 	}
 
 	/*
@@ -149,17 +185,17 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable getVariable(int offset) throws DebugException {
-		if (offset > getInstances().length - 1 || offset < 0) {
+		if (offset > getInstanceCount() - 1 || offset < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
 		}
-		if (isMoreThanPreference() && offset == getInstances().length - 1) {
+		if (isMoreThanPreference() && offset == getInstanceCount() - 1) {
 			return new JDIPlaceholderVariable(
 					LogicalStructuresMessages.JDIAllInstancesValue_4,
-					getInstances()[offset]);
+					getInstance(offset));
 		}
 		return new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5,
 				Integer.toString(offset)),
-				getInstances()[offset]);
+				getInstance(offset));
 	}
 
 	/*
@@ -175,7 +211,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		if (length == 0) {
 			return new IVariable[0];
 		}
-		if (offset > getInstances().length - 1 || offset < 0) {
+		if (offset > getInstanceCount() - 1 || offset < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
 		}
 		IVariable[] vars = new JDIPlaceholderVariable[length];
@@ -192,7 +228,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		return getVariables(0, getInstances().length);
+		return getVariables(0, getInstanceCount());
 	}
 
 	/*
@@ -207,6 +243,18 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		return new IJavaObject[0];
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.jdt.internal.debug.core.model.JDIObjectValue#getReferringObjectList
+	 * (long)
+	 */
+	@Override
+	public ObjectReferenceList getReferringObjectList(long max) throws DebugException {
+		return new ObjectReferenceList(getJavaDebugTarget(), Collections.emptyList());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -237,7 +285,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public boolean hasVariables() throws DebugException {
-		return getInstances().length > 0;
+		return getInstanceCount() > 0;
 	}
 
 	/*
@@ -281,13 +329,13 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	public String getValueString() throws DebugException {
 		if (isMoreThanPreference()) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_7,
-							Integer.toString(getInstances().length - 1));
-		} else if (getInstances().length == 1) {
+							Integer.toString(getInstanceCount() - 1));
+		} else if (getInstanceCount() == 1) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_8,
-					Integer.toString(getInstances().length));
+					Integer.toString(getInstanceCount()));
 		} else {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_9,
-					Integer.toString(getInstances().length));
+					Integer.toString(getInstanceCount()));
 		}
 	}
 
@@ -328,8 +376,8 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 *         displayed
 	 */
 	protected boolean isMoreThanPreference() {
-		getInstances(); // The instances must be requested to know if there are
-						// more than the preference
+		getInstanceList(); // The instances must be requested to know if there
+							// are more than the preference
 		return fIsMoreThanPreference;
 	}
 
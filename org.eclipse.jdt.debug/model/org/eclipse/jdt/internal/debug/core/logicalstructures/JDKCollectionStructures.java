@@ -0,0 +1,423 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.ArrayType;
+import com.sun.jdi.ClassNotLoadedException;
+import com.sun.jdi.Field;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.LongValue;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.Value;
+
+/**
+ * Reads the logical structures of the well known collection types of the JDK
+ * from their internal fields, instead of evaluating the snippets of the
+ * contributed structures, which invoke methods in the target. Values are read
+ * with a few <code>GetValues</code> requests and no thread is resumed. The
+ * nodes of linked structures that do not depend on each other are read with
+ * one round trip to the VM.
+ * <p>
+ * Only objects of the exact JDK classes are read, since subclasses may
+ * override the methods the snippets call. When the fields are not the
+ * expected ones, as in other JDK versions, the snippet is evaluated instead.
+ * </p>
+ */
+class JDKCollectionStructures {
+
+	/**
+	 * Maximum number of nodes of a linked structure, above which evaluating
+	 * the snippet is cheaper
+	 */
+	private static final int MAX_NODES = 100;
+
+	/**
+	 * Entry classes whose <code>getKey()</code> and <code>getValue()</code>
+	 * return their <code>key</code> field and their <code>value</code> or
+	 * <code>val</code> field
+	 */
+	private static final Set<String> ENTRY_TYPES = new HashSet<>(Arrays.asList(
+			"java.util.HashMap$Node", //$NON-NLS-1$
+			"java.util.HashMap$TreeNode", //$NON-NLS-1$
+			"java.util.LinkedHashMap$Entry", //$NON-NLS-1$
+			"java.util.TreeMap$Entry", //$NON-NLS-1$
+			"java.util.AbstractMap$SimpleEntry", //$NON-NLS-1$
+			"java.util.AbstractMap$SimpleImmutableEntry", //$NON-NLS-1$
+			"java.util.KeyValueHolder", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentHashMap$Node", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentHashMap$MapEntry")); //$NON-NLS-1$
+
+	/**
+	 * Returns the logical structure of the given object for the given
+	 * contributed structure, read from the fields of the object, or
+	 * <code>null</code> if the structure has to be evaluated.
+	 *
+	 * @param structure
+	 *            a logical structure contributed by this plug-in
+	 * @param value
+	 *            an object the structure applies to
+	 * @return logical structure or <code>null</code>
+	 */
+	static IJavaValue getLogicalStructure(JavaLogicalStructure structure, IJavaObject value) {
+		if (!JDIDebugPlugin.getUniqueIdentifier().equals(structure.getContributingPluginId())) {
+			return null;
+		}
+		if (!(value instanceof JDIObjectValue) || !(value.getDebugTarget() instanceof JDIDebugTarget)) {
+			return null;
+		}
+		ObjectReference object = ((JDIObjectValue) value).getUnderlyingObject();
+		if (object == null) {
+			return null;
+		}
+		JDIDebugTarget target = (JDIDebugTarget) value.getDebugTarget();
+		try {
+			String typeName = object.referenceType().name();
+			List<Value> elements = null;
+			switch (structure.getQualifiedTypeName()) {
+				case "java.util.Collection": //$NON-NLS-1$
+					elements = readCollection(object, typeName);
+					break;
+				case "java.util.Map": //$NON-NLS-1$
+					elements = readMap(object, typeName);
+					break;
+				case "java.util.Map$Entry": //$NON-NLS-1$
+					return readEntry(structure, value, object, typeName);
+				default:
+					return null;
+			}
+			if (elements == null) {
+				return null;
+			}
+			IJavaValue[] values = new IJavaValue[elements.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = JDIValue.createValue(target, elements.get(i));
+			}
+			LogicalArrayStructureValue array = new LogicalArrayStructureValue(target, values);
+			array.setLogicalParent(value);
+			return array;
+		} catch (RuntimeException e) {
+			// let the snippet report the problem
+			return null;
+		}
+	}
+
+	private static List<Value> readCollection(ObjectReference object, String typeName) {
+		switch (typeName) {
+			case "java.util.ArrayList": { //$NON-NLS-1$
+				Value[] values = getValues(object, "size", "elementData"); //$NON-NLS-1$ //$NON-NLS-2$
+				if (values == null || !(values[0] instanceof IntegerValue) || !(values[1] instanceof ArrayReference)) {
+					return null;
+				}
+				ArrayReference elementData = (ArrayReference) values[1];
+				int size = Math.min(((IntegerValue) values[0]).value(), elementData.length());
+				return size == 0 ? new ArrayList<>() : elementData.getValues(0, size);
+			}
+			case "java.util.LinkedList": { //$NON-NLS-1$
+				Value[] values = getValues(object, "size", "first", "last"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				if (values == null || !(values[0] instanceof IntegerValue) || ((IntegerValue) values[0]).value() > MAX_NODES) {
+					return null;
+				}
+				return readNodes((ObjectReference) values[1], (ObjectReference) values[2], ((IntegerValue) values[0]).value(), "item", "next", "prev"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			default:
+				return null;
+		}
+	}
+
+	private static List<Value> readMap(ObjectReference object, String typeName) {
+		switch (typeName) {
+			case "java.util.HashMap": { //$NON-NLS-1$
+				Value[] values = getValues(object, "size", "table"); //$NON-NLS-1$ //$NON-NLS-2$
+				if (values == null || !(values[0] instanceof IntegerValue) || ((IntegerValue) values[0]).value() > MAX_NODES) {
+					return null;
+				}
+				return readTable((ArrayReference) values[1], false);
+			}
+			case "java.util.LinkedHashMap": { //$NON-NLS-1$
+				Value[] values = getValues(object, "size", "head", "tail"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				if (values == null || !(values[0] instanceof IntegerValue) || ((IntegerValue) values[0]).value() > MAX_NODES) {
+					return null;
+				}
+				return readNodes((ObjectReference) values[1], (ObjectReference) values[2], ((IntegerValue) values[0]).value(), null, "after", "before"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			case "java.util.concurrent.ConcurrentHashMap": { //$NON-NLS-1$
+				Value[] values = getValues(object, "baseCount", "counterCells", "table"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				if (values == null || !(values[0] instanceof LongValue)) {
+					return null;
+				}
+				long size = ((LongValue) values[0]).value();
+				if (values[1] != null) {
+					size += sumCounterCells((ArrayReference) values[1]);
+				}
+				if (size > MAX_NODES) {
+					return null;
+				}
+				return readTable((ArrayReference) values[2], true);
+			}
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Returns the sum of the counter cells of a <code>ConcurrentHashMap</code>,
+	 * which its size adds to its base count.
+	 *
+	 * @param cells
+	 *            counter cells, some of which may be <code>null</code>
+	 * @return sum of the values of the cells
+	 */
+	private static long sumCounterCells(ArrayReference cells) {
+		List<ObjectReference> counters = new ArrayList<>();
+		for (Value cell : cells.getValues()) {
+			if (cell != null) {
+				counters.add((ObjectReference) cell);
+			}
+		}
+		if (counters.isEmpty()) {
+			return 0;
+		}
+		Field value = counters.get(0).referenceType().fieldByName("value"); //$NON-NLS-1$
+		if (value == null) {
+			return Long.MAX_VALUE;
+		}
+		long sum = 0;
+		for (Map<Field, Value> values : ObjectReferenceImpl.getFieldValues(counters, Arrays.asList(value))) {
+			sum += ((LongValue) values.get(value)).value();
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the nodes of the buckets of a hash table, in iteration order.
+	 * The chains of all buckets are walked together, reading the nodes at the
+	 * same depth in every chain with one round trip to the VM.
+	 *
+	 * @param table
+	 *            table of a <code>HashMap</code> or a
+	 *            <code>ConcurrentHashMap</code>, possibly <code>null</code>
+	 * @param concurrent
+	 *            whether the table is the one of a
+	 *            <code>ConcurrentHashMap</code>
+	 * @return nodes of the table, or <code>null</code> if the table cannot be
+	 *         read
+	 */
+	private static List<Value> readTable(ArrayReference table, boolean concurrent) {
+		List<Value> nodes = new ArrayList<>();
+		if (table == null) {
+			return nodes;
+		}
+		ReferenceType nodeType;
+		try {
+			nodeType = (ReferenceType) ((ArrayType) table.referenceType()).componentType();
+		} catch (ClassNotLoadedException e) {
+			return null;
+		}
+		Field next = nodeType.fieldByName("next"); //$NON-NLS-1$
+		Field hash = concurrent ? nodeType.fieldByName("hash") : null; //$NON-NLS-1$
+		if (next == null || (concurrent && hash == null)) {
+			return null;
+		}
+		List<Field> fields = concurrent ? Arrays.asList(hash, next) : Arrays.asList(next);
+		// the chain of each bucket, and the nodes to read next with their chains
+		List<List<Value>> chains = new ArrayList<>();
+		List<ObjectReference> level = new ArrayList<>();
+		List<List<Value>> levelChains = new ArrayList<>();
+		for (Value bucket : table.getValues()) {
+			if (bucket != null) {
+				List<Value> chain = new ArrayList<>();
+				chains.add(chain);
+				level.add((ObjectReference) bucket);
+				levelChains.add(chain);
+			}
+		}
+		Field first = null;
+		int count = 0;
+		while (!level.isEmpty()) {
+			List<Map<Field, Value>> levelValues = ObjectReferenceImpl.getFieldValues(level, fields);
+			List<ObjectReference> nextLevel = new ArrayList<>();
+			List<List<Value>> nextChains = new ArrayList<>();
+			List<ObjectReference> bins = new ArrayList<>();
+			List<List<Value>> binChains = new ArrayList<>();
+			for (int i = 0; i < level.size(); i++) {
+				ObjectReference node = level.get(i);
+				Map<Field, Value> values = levelValues.get(i);
+				if (concurrent && ((IntegerValue) values.get(hash)).value() < 0) {
+					bins.add(node);
+					binChains.add(levelChains.get(i));
+					continue;
+				}
+				if (++count > MAX_NODES) {
+					return null;
+				}
+				levelChains.get(i).add(node);
+				ObjectReference successor = (ObjectReference) values.get(next);
+				if (successor != null) {
+					nextLevel.add(successor);
+					nextChains.add(levelChains.get(i));
+				}
+			}
+			if (!bins.isEmpty()) {
+				// a tree bin links its nodes from its first node, a table being
+				// resized cannot be read
+				if (first == null) {
+					first = bins.get(0).referenceType().fieldByName("first"); //$NON-NLS-1$
+					if (first == null) {
+						return null;
+					}
+				}
+				List<Map<Field, Value>> binValues = ObjectReferenceImpl.getFieldValues(bins, Arrays.asList(first));
+				for (int i = 0; i < bins.size(); i++) {
+					ObjectReference firstNode = (ObjectReference) binValues.get(i).get(first);
+					if (firstNode != null) {
+						nextLevel.add(firstNode);
+						nextChains.add(binChains.get(i));
+					}
+				}
+			}
+			level = nextLevel;
+			levelChains = nextChains;
+		}
+		for (List<Value> chain : chains) {
+			nodes.addAll(chain);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Returns the values of the nodes of a doubly linked list, or the nodes
+	 * themselves. The list is walked from both ends at once, reading the two
+	 * nodes of each step with one round trip to the VM.
+	 *
+	 * @param first
+	 *            first node or <code>null</code>
+	 * @param last
+	 *            last node or <code>null</code>
+	 * @param size
+	 *            number of nodes of the list
+	 * @param item
+	 *            name of the field holding the value of a node, or
+	 *            <code>null</code> to return the nodes
+	 * @param next
+	 *            name of the field linking a node to the next one
+	 * @param previous
+	 *            name of the field linking a node to the previous one
+	 * @return values of the nodes, or <code>null</code> if the list cannot be
+	 *         read
+	 */
+	private static List<Value> readNodes(ObjectReference first, ObjectReference last, int size, String item, String next, String previous) {
+		if (size <= 0 || first == null || last == null) {
+			return size == 0 && first == null && last == null ? new ArrayList<>() : null;
+		}
+		ReferenceType type = first.referenceType();
+		Field nextField = type.fieldByName(next);
+		Field previousField = type.fieldByName(previous);
+		Field itemField = item == null ? null : type.fieldByName(item);
+		if (nextField == null || previousField == null || (item != null && itemField == null)) {
+			return null;
+		}
+		List<Field> fields = item == null ? Arrays.asList(nextField, previousField) : Arrays.asList(itemField, nextField, previousField);
+		ObjectReference[] nodes = new ObjectReference[size];
+		Value[] values = new Value[size];
+		ObjectReference forward = first;
+		ObjectReference backward = last;
+		int head = 0;
+		int tail = size - 1;
+		while (head <= tail) {
+			if (forward == null || backward == null) {
+				return null;
+			}
+			List<ObjectReference> step = head == tail ? Arrays.asList(forward) : Arrays.asList(forward, backward);
+			List<Map<Field, Value>> stepValues = ObjectReferenceImpl.getFieldValues(step, fields);
+			nodes[head] = forward;
+			values[head] = item == null ? forward : stepValues.get(0).get(itemField);
+			forward = (ObjectReference) stepValues.get(0).get(nextField);
+			if (head < tail) {
+				nodes[tail] = backward;
+				values[tail] = item == null ? backward : stepValues.get(1).get(itemField);
+				backward = (ObjectReference) stepValues.get(1).get(previousField);
+			}
+			head++;
+			tail--;
+		}
+		// the walks must meet where the size says they do
+		if (head < size ? !nodes[head].equals(forward) : forward != null) {
+			return null;
+		}
+		return new ArrayList<>(Arrays.asList(values));
+	}
+
+	private static IJavaValue readEntry(JavaLogicalStructure structure, IJavaObject value, ObjectReference object, String typeName) {
+		String[][] variables = structure.getVariables();
+		if (!ENTRY_TYPES.contains(typeName) || variables.length != 2 || !"key".equals(variables[0][0]) || !"value".equals(variables[1][0])) { //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+		Value[] values = getValues(object, "key", typeName.startsWith("java.util.concurrent.") ? "val" : "value"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		if (values == null) {
+			return null;
+		}
+		JDIDebugTarget target = (JDIDebugTarget) value.getDebugTarget();
+		JDIPlaceholderVariable[] children = new JDIPlaceholderVariable[2];
+		for (int i = 0; i < children.length; i++) {
+			children[i] = new JDIPlaceholderVariable(variables[i][0], JDIValue.createValue(target, values[i]), value);
+		}
+		return new LogicalObjectStructureValue(value, children);
+	}
+
+	/**
+	 * Returns the values of the given fields of an object, fetched with one
+	 * request.
+	 *
+	 * @param object
+	 *            an object
+	 * @param names
+	 *            names of fields visible in the type of the object
+	 * @return values in the order of the names, or <code>null</code> if a
+	 *         field does not exist
+	 */
+	private static Value[] getValues(ObjectReference object, String... names) {
+		ReferenceType type = object.referenceType();
+		List<Field> fields = new ArrayList<>(names.length);
+		for (String name : names) {
+			Field field = type.fieldByName(name);
+			if (field == null || field.isStatic()) {
+				return null;
+			}
+			fields.add(field);
+		}
+		Map<Field, Value> values = object.getValues(fields);
+		Value[] result = new Value[names.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = values.get(fields.get(i));
+		}
+		return result;
+	}
+}
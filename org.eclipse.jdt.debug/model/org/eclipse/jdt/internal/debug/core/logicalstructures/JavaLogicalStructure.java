@@ -287,6 +287,10 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 			if (type == null) {
 				return value;
 			}
+			IJavaValue structure = JDKCollectionStructures.getLogicalStructure(this, javaValue);
+			if (structure != null) {
+				return structure;
+			}
 			IJavaStackFrame stackFrame = getStackFrame(javaValue);
 			if (stackFrame == null) {
 				return value;
@@ -357,6 +361,10 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 				return null;
 			}
 			IJavaClassType classType = (IJavaClassType) type;
+			if (JavaLogicalStructures.isDefined(this)) {
+				// resolved once per type for all the defined structures
+				return JavaLogicalStructures.getLogicalStructureTypes(classType).get(this);
+			}
 			if (classType.getName().equals(fType)) {
 				// found the type
 				return classType;
@@ -15,9 +15,11 @@ package org.eclipse.jdt.internal.debug.core.logicalstructures;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,17 +34,24 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChang
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureProvider;
 import org.eclipse.debug.core.ILogicalStructureType;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdt.debug.core.IJavaClassType;
 import org.eclipse.jdt.debug.core.IJavaInterfaceType;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 import org.osgi.service.prefs.BackingStoreException;
 
+import com.sun.jdi.ReferenceType;
+
 public class JavaLogicalStructures implements ILogicalStructureProvider {
 
 	// preference values
@@ -89,6 +98,11 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 			if (PREF_JAVA_LOGICAL_STRUCTURES.equals(event.getKey())) {
 				initUserDefinedJavaLogicalStructures();
 				initJavaLogicalStructureMap();
+				for (IDebugTarget target : DebugPlugin.getDefault().getLaunchManager().getDebugTargets()) {
+					if (target instanceof JDIDebugTarget) {
+						((JDIDebugTarget) target).clearLogicalStructureTypes();
+					}
+				}
 				Iterator<IJavaStructuresListener> iter = fListeners.iterator();
 				while (iter.hasNext()) {
 					iter.next().logicalStructuresChanged();
@@ -271,48 +285,89 @@ public class JavaLogicalStructures implements ILogicalStructureProvider {
 			return new ILogicalStructureType[0];
 		}
 		IJavaObject javaValue = (IJavaObject) value;
-		List<JavaLogicalStructure> logicalStructures = new ArrayList<>();
 		try {
 			IJavaType type = javaValue.getJavaType();
 			if (!(type instanceof IJavaClassType)) {
 				return new ILogicalStructureType[0];
 			}
-			IJavaClassType classType = (IJavaClassType) type;
-			List<JavaLogicalStructure> list = fJavaLogicalStructureMap
-					.get(classType.getName());
-			if (list != null) {
-				logicalStructures.addAll(list);
-			}
-			IJavaClassType superClass = classType.getSuperclass();
-			while (superClass != null) {
-				addIfIsSubtype(logicalStructures,
-						fJavaLogicalStructureMap.get(superClass
-								.getName()));
-				superClass = superClass.getSuperclass();
-			}
-			IJavaInterfaceType[] superInterfaces = classType.getAllInterfaces();
-			for (IJavaInterfaceType superInterface : superInterfaces) {
-				addIfIsSubtype(logicalStructures,
-						fJavaLogicalStructureMap.get(superInterface
-								.getName()));
-			}
+			Set<ILogicalStructureType> logicalStructures = getLogicalStructureTypes((IJavaClassType) type).keySet();
+			return logicalStructures.toArray(new ILogicalStructureType[logicalStructures.size()]);
 		} catch (DebugException e) {
 			JDIDebugPlugin.log(e);
 			return new ILogicalStructureType[0];
 		}
-		return logicalStructures
-				.toArray(new ILogicalStructureType[logicalStructures.size()]);
 	}
 
-	private void addIfIsSubtype(List<JavaLogicalStructure> logicalStructures, List<JavaLogicalStructure> list) {
+	/**
+	 * Returns the logical structures applicable to the given type, each with
+	 * the type of its hierarchy the structure is defined for. The hierarchy of
+	 * a type is only walked once per debug target, as long as the defined
+	 * structures do not change.
+	 *
+	 * @param classType
+	 *            a class type
+	 * @return logical structures applicable to the type, in the order they are
+	 *         offered
+	 * @throws DebugException
+	 *             if the hierarchy of the type cannot be retrieved
+	 */
+	static Map<ILogicalStructureType, IJavaReferenceType> getLogicalStructureTypes(IJavaClassType classType) throws DebugException {
+		JDIDebugTarget target = null;
+		ReferenceType referenceType = null;
+		if (classType instanceof JDIReferenceType && classType.getDebugTarget() instanceof JDIDebugTarget) {
+			target = (JDIDebugTarget) classType.getDebugTarget();
+			referenceType = (ReferenceType) ((JDIReferenceType) classType).getUnderlyingType();
+			Map<ILogicalStructureType, IJavaReferenceType> structures = target.getLogicalStructureTypes(referenceType);
+			if (structures != null) {
+				return structures;
+			}
+		}
+		Map<String, List<JavaLogicalStructure>> structureMap = fJavaLogicalStructureMap;
+		Map<ILogicalStructureType, IJavaReferenceType> structures = new LinkedHashMap<>();
+		List<JavaLogicalStructure> list = structureMap.get(classType.getName());
+		if (list != null) {
+			for (JavaLogicalStructure structure : list) {
+				structures.put(structure, classType);
+			}
+		}
+		IJavaClassType superClass = classType.getSuperclass();
+		while (superClass != null) {
+			addIfIsSubtype(structures, structureMap.get(superClass.getName()), superClass);
+			superClass = superClass.getSuperclass();
+		}
+		IJavaInterfaceType[] superInterfaces = classType.getAllInterfaces();
+		for (IJavaInterfaceType superInterface : superInterfaces) {
+			addIfIsSubtype(structures, structureMap.get(superInterface.getName()), superInterface);
+		}
+		structures = Collections.unmodifiableMap(structures);
+		if (target != null) {
+			target.setLogicalStructureTypes(referenceType, structures);
+		}
+		return structures;
+	}
+
+	private static void addIfIsSubtype(Map<ILogicalStructureType, IJavaReferenceType> structures, List<JavaLogicalStructure> list, IJavaReferenceType type) {
 		if (list == null) {
 			return;
 		}
 		for(JavaLogicalStructure jls : list) {
 			if (jls.isSubtypes()) {
-				logicalStructures.add(jls);
+				structures.putIfAbsent(jls, type);
 			}
 		}
 	}
 
+	/**
+	 * Returns whether the given logical structure is one of the defined
+	 * structures.
+	 *
+	 * @param structure
+	 *            a logical structure
+	 * @return whether the structure is defined
+	 */
+	static boolean isDefined(JavaLogicalStructure structure) {
+		List<JavaLogicalStructure> list = fJavaLogicalStructureMap.get(structure.getQualifiedTypeName());
+		return list != null && list.contains(structure);
+	}
+
 }
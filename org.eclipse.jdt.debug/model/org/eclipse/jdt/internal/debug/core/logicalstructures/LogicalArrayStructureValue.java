@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.util.Collections;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaFieldVariable;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.ObjectReferenceList;
+
+/**
+ * Logical structure of a collection read from its internal fields, presented
+ * as the <code>java.lang.Object[]</code> that <code>toArray()</code> would
+ * return, without an array existing in the target. Operations that need the
+ * array in the target fail.
+ */
+public class LogicalArrayStructureValue extends JDIArrayValue {
+
+	private final IJavaValue[] fElements;
+	private IJavaArrayType fType;
+
+	/**
+	 * Constructs an array of the given elements.
+	 *
+	 * @param target
+	 *            the target the elements belong to
+	 * @param elements
+	 *            elements of the array
+	 */
+	public LogicalArrayStructureValue(JDIDebugTarget target, IJavaValue[] elements) {
+		super(target, null);
+		fElements = elements;
+		try {
+			IJavaType[] javaTypes = target.getJavaTypes("java.lang.Object[]"); //$NON-NLS-1$
+			if (javaTypes != null && javaTypes.length > 0) {
+				fType = (IJavaArrayType) javaTypes[0];
+			}
+		} catch (DebugException e) {
+		}
+	}
+
+	@Override
+	public synchronized int getLength() throws DebugException {
+		return fElements.length;
+	}
+
+	@Override
+	public int getSize() throws DebugException {
+		return fElements.length;
+	}
+
+	@Override
+	public int getArrayLength() throws DebugException {
+		return fElements.length;
+	}
+
+	@Override
+	public int getInitialOffset() {
+		return 0;
+	}
+
+	@Override
+	public IJavaValue getValue(int index) throws DebugException {
+		if (index < 0 || index >= fElements.length) {
+			requestFailed(LogicalStructuresMessages.JDIAllInstancesValue_0, new IndexOutOfBoundsException(Integer.toString(index)));
+		}
+		return fElements[index];
+	}
+
+	@Override
+	public IJavaValue[] getValues() throws DebugException {
+		return fElements.clone();
+	}
+
+	@Override
+	public Object getPrimitiveValues(int offset, int length) throws DebugException {
+		return null;
+	}
+
+	@Override
+	public void setValue(int index, IJavaValue value) throws DebugException {
+		notSupported(LogicalStructuresMessages.LogicalArrayStructureValue_0);
+	}
+
+	@Override
+	public void setValues(int offset, int length, IJavaValue[] values, int startOffset) throws DebugException {
+		notSupported(LogicalStructuresMessages.LogicalArrayStructureValue_0);
+	}
+
+	@Override
+	public void setValues(IJavaValue[] values) throws DebugException {
+		notSupported(LogicalStructuresMessages.LogicalArrayStructureValue_0);
+	}
+
+	@Override
+	public IJavaValue sendMessage(String selector, String signature, IJavaValue[] args, IJavaThread thread, boolean superSend) throws DebugException {
+		notSupported(LogicalStructuresMessages.LogicalArrayStructureValue_0);
+		return null;
+	}
+
+	@Override
+	public IJavaValue sendMessage(String selector, String signature, IJavaValue[] args, IJavaThread thread, String typeSignature) throws DebugException {
+		notSupported(LogicalStructuresMessages.LogicalArrayStructureValue_0);
+		return null;
+	}
+
+	@Override
+	public IJavaFieldVariable getField(String name, boolean superField) throws DebugException {
+		return null;
+	}
+
+	@Override
+	public IJavaFieldVariable getField(String name, String typeSignature) throws DebugException {
+		return null;
+	}
+
+	@Override
+	public IJavaFieldVariable getField(String name, int superClassLevel) throws DebugException {
+		return null;
+	}
+
+	@Override
+	public IJavaThread[] getWaitingThreads() throws DebugException {
+		return new IJavaThread[0];
+	}
+
+	@Override
+	public IJavaThread getOwningThread() throws DebugException {
+		return null;
+	}
+
+	@Override
+	public long getUniqueId() throws DebugException {
+		return -1L;
+	}
+
+	@Override
+	public String getLabel() throws DebugException {
+		return null;
+	}
+
+	@Override
+	public void setLabel(String newLabel) throws DebugException {
+		notSupported(LogicalStructuresMessages.LogicalArrayStructureValue_0);
+	}
+
+	@Override
+	public IVariable getVariable(int offset) throws DebugException {
+		return new JDIPlaceholderVariable("[" + offset + "]", getValue(offset), this); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	public IVariable[] getVariables(int offset, int length) throws DebugException {
+		if (offset < 0 || length < 0 || offset + length > fElements.length) {
+			requestFailed(LogicalStructuresMessages.JDIAllInstancesValue_1, new IndexOutOfBoundsException(Integer.toString(offset + length - 1)));
+		}
+		IVariable[] variables = new IVariable[length];
+		for (int i = 0; i < length; i++) {
+			variables[i] = getVariable(offset + i);
+		}
+		return variables;
+	}
+
+	@Override
+	public IVariable[] getVariables() throws DebugException {
+		return getVariables(0, fElements.length);
+	}
+
+	@Override
+	public boolean hasVariables() throws DebugException {
+		return fElements.length > 0;
+	}
+
+	@Override
+	public IJavaObject[] getReferringObjects(long max) throws DebugException {
+		return new IJavaObject[0];
+	}
+
+	@Override
+	public ObjectReferenceList getReferringObjectList(long max) throws DebugException {
+		return new ObjectReferenceList(getJavaDebugTarget(), Collections.emptyList());
+	}
+
+	@Override
+	public void disableCollection() throws DebugException {
+		// the elements are reachable from the collection
+	}
+
+	@Override
+	public void enableCollection() throws DebugException {
+		// the elements are reachable from the collection
+	}
+
+	@Override
+	public boolean isAllocated() throws DebugException {
+		return getJavaDebugTarget().isAvailable();
+	}
+
+	@Override
+	public IJavaType getJavaType() throws DebugException {
+		return fType;
+	}
+
+	@Override
+	public String getSignature() throws DebugException {
+		return "[Ljava/lang/Object;"; //$NON-NLS-1$
+	}
+
+	@Override
+	public String getReferenceTypeName() throws DebugException {
+		return "java.lang.Object[]"; //$NON-NLS-1$
+	}
+
+	@Override
+	public String getValueString() throws DebugException {
+		return ""; //$NON-NLS-1$
+	}
+
+	@Override
+	public String toString() {
+		return "java.lang.Object[" + fElements.length + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -44,6 +44,8 @@ public class LogicalStructuresMessages extends NLS {
 	public static String JavaLogicalStructure_2;
 	public static String JavaLogicalStructure_3;
 
+	public static String LogicalArrayStructureValue_0;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, LogicalStructuresMessages.class);
@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.osgi.util.NLS;
+
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.event.ClassPrepareEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.EventRequestManager;
+
+/**
+ * Shares class prepare requests between the listeners of a debug target. One request is installed in the target VM per distinct class
+ * pattern, however many listeners are interested in it. When a class is prepared, the listeners whose patterns match the name of the class are
+ * found in a trie of the patterns and each is notified once, even if the class matches the patterns of several requests.
+ * <p>
+ * Patterns are class names that may begin or end with a '*'. Exclusion patterns are evaluated for each listener in the debugger, so that
+ * listeners with the same pattern share a request whatever their exclusions.
+ * </p>
+ */
+public class ClassPrepareMultiplexer implements IJDIEventListener {
+
+	/**
+	 * Interest of a listener in the classes matching a pattern
+	 */
+	private static class Subscription {
+		final IJDIEventListener fListener;
+		final String fPattern;
+		final String fExclusionPattern;
+
+		Subscription(IJDIEventListener listener, String pattern, String exclusionPattern) {
+			fListener = listener;
+			fPattern = pattern;
+			fExclusionPattern = exclusionPattern;
+		}
+
+		boolean excludes(String typeName) {
+			return fExclusionPattern != null && matches(fExclusionPattern, typeName);
+		}
+	}
+
+	/**
+	 * Node of the trie of patterns, reached by the characters of a pattern up to its '*'
+	 */
+	private static class Node {
+		final Map<Character, Node> fChildren = new HashMap<>(2);
+		/**
+		 * Subscriptions for exactly the name leading to this node
+		 */
+		final List<Subscription> fExact = new ArrayList<>(1);
+		/**
+		 * Subscriptions for all names starting with the name leading to this node
+		 */
+		final List<Subscription> fPrefix = new ArrayList<>(1);
+	}
+
+	/**
+	 * Request installed for a pattern and the number of subscriptions using it
+	 */
+	private static class SharedRequest {
+		final ClassPrepareRequest fRequest;
+		int fSubscriptionCount;
+
+		SharedRequest(ClassPrepareRequest request) {
+			fRequest = request;
+		}
+	}
+
+	private final JDIDebugTarget fTarget;
+
+	private final Node fRoot = new Node();
+
+	/**
+	 * Subscriptions with a pattern beginning with '*', which are not in the trie
+	 */
+	private final List<Subscription> fSuffixSubscriptions = new ArrayList<>(1);
+
+	private final Map<String, SharedRequest> fRequests = new HashMap<>();
+
+	private final Map<IJDIEventListener, List<Subscription>> fSubscriptions = new IdentityHashMap<>();
+
+	/**
+	 * Listeners notified of each class prepare event of the event set being dispatched, until the event set completes
+	 */
+	private final Map<Event, Set<IJDIEventListener>> fNotified = new IdentityHashMap<>();
+
+	/**
+	 * Class prepared by the last event handled and its event set, to notify listeners once when the class matches the patterns of several
+	 * requests
+	 */
+	private EventSet fLastEventSet;
+	private ReferenceType fLastType;
+
+	/**
+	 * @param target
+	 *            the target in which to install requests
+	 */
+	public ClassPrepareMultiplexer(JDIDebugTarget target) {
+		fTarget = target;
+	}
+
+	/**
+	 * Returns whether the given class name matches the given pattern, which may begin or end with a '*'.
+	 */
+	static boolean matches(String pattern, String typeName) {
+		if (pattern.endsWith("*")) { //$NON-NLS-1$
+			return typeName.startsWith(pattern.substring(0, pattern.length() - 1));
+		}
+		if (pattern.startsWith("*")) { //$NON-NLS-1$
+			return typeName.endsWith(pattern.substring(1));
+		}
+		return typeName.equals(pattern);
+	}
+
+	/**
+	 * Notifies the given listener of the preparation of the classes matching the given pattern and not the given exclusion pattern, installing a
+	 * class prepare request for the pattern unless one is already installed.
+	 *
+	 * @param listener
+	 *            listener to notify of class prepare events
+	 * @param pattern
+	 *            class name which may begin or end with a '*'
+	 * @param exclusionPattern
+	 *            class name which may begin or end with a '*', or <code>null</code>
+	 * @exception CoreException
+	 *                if unable to create the request
+	 */
+	public synchronized void subscribe(IJDIEventListener listener, String pattern, String exclusionPattern) throws CoreException {
+		SharedRequest shared = fRequests.get(pattern);
+		if (shared == null) {
+			ClassPrepareRequest request = fTarget.createClassPrepareRequest(pattern);
+			if (request == null) {
+				return;
+			}
+			shared = new SharedRequest(request);
+			fRequests.put(pattern, shared);
+			fTarget.addJDIEventListener(this, request);
+		}
+		shared.fSubscriptionCount++;
+		Subscription subscription = new Subscription(listener, pattern, exclusionPattern);
+		fSubscriptions.computeIfAbsent(listener, l -> new ArrayList<>(2)).add(subscription);
+		subscriptionList(pattern, true).add(subscription);
+	}
+
+	/**
+	 * Stops notifying the given listener of class prepare events, removing the requests that are not used by other listeners anymore.
+	 *
+	 * @param listener
+	 *            listener subscribed to class prepare events
+	 */
+	public synchronized void unsubscribe(IJDIEventListener listener) {
+		List<Subscription> subscriptions = fSubscriptions.remove(listener);
+		if (subscriptions == null) {
+			return;
+		}
+		for (Subscription subscription : subscriptions) {
+			List<Subscription> list = subscriptionList(subscription.fPattern, false);
+			if (list != null) {
+				list.remove(subscription);
+			}
+			SharedRequest shared = fRequests.get(subscription.fPattern);
+			if (shared != null && --shared.fSubscriptionCount == 0) {
+				fRequests.remove(subscription.fPattern);
+				fTarget.removeJDIEventListener(this, shared.fRequest);
+				deleteRequest(shared.fRequest);
+			}
+		}
+	}
+
+	private void deleteRequest(ClassPrepareRequest request) {
+		try {
+			if (fTarget.isAvailable()) {
+				EventRequestManager manager = fTarget.getEventRequestManager();
+				if (manager != null) {
+					manager.deleteEventRequest(request);
+				}
+			}
+		} catch (VMDisconnectedException e) {
+			if (fTarget.isAvailable()) {
+				JDIDebugPlugin.log(e);
+			}
+		} catch (RuntimeException e) {
+			fTarget.internalError(e);
+		}
+	}
+
+	/**
+	 * Returns the list holding the subscriptions for the given pattern, or <code>null</code> if there is none and <code>create</code> is
+	 * <code>false</code>.
+	 */
+	private List<Subscription> subscriptionList(String pattern, boolean create) {
+		if (pattern.startsWith("*")) { //$NON-NLS-1$
+			return fSuffixSubscriptions;
+		}
+		boolean prefix = pattern.endsWith("*"); //$NON-NLS-1$
+		int length = prefix ? pattern.length() - 1 : pattern.length();
+		Node node = fRoot;
+		for (int i = 0; i < length; i++) {
+			Character c = Character.valueOf(pattern.charAt(i));
+			Node child = node.fChildren.get(c);
+			if (child == null) {
+				if (!create) {
+					return null;
+				}
+				child = new Node();
+				node.fChildren.put(c, child);
+			}
+			node = child;
+		}
+		return prefix ? node.fPrefix : node.fExact;
+	}
+
+	/**
+	 * Returns the listeners interested in the preparation of the class with the given name.
+	 */
+	private synchronized Set<IJDIEventListener> getListeners(String typeName) {
+		Set<IJDIEventListener> listeners = new LinkedHashSet<>();
+		Node node = fRoot;
+		addListeners(node.fPrefix, typeName, listeners);
+		for (int i = 0; i < typeName.length() && node != null; i++) {
+			node = node.fChildren.get(Character.valueOf(typeName.charAt(i)));
+			if (node != null) {
+				addListeners(node.fPrefix, typeName, listeners);
+			}
+		}
+		if (node != null) {
+			addListeners(node.fExact, typeName, listeners);
+		}
+		for (Subscription subscription : fSuffixSubscriptions) {
+			if (matches(subscription.fPattern, typeName)) {
+				addListener(subscription, typeName, listeners);
+			}
+		}
+		return listeners;
+	}
+
+	private static void addListeners(List<Subscription> subscriptions, String typeName, Set<IJDIEventListener> listeners) {
+		for (Subscription subscription : subscriptions) {
+			addListener(subscription, typeName, listeners);
+		}
+	}
+
+	private static void addListener(Subscription subscription, String typeName, Set<IJDIEventListener> listeners) {
+		if (!subscription.excludes(typeName)) {
+			listeners.add(subscription.fListener);
+		}
+	}
+
+	@Override
+	public boolean handleEvent(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
+		if (!(event instanceof ClassPrepareEvent)) {
+			return true;
+		}
+		ReferenceType type = ((ClassPrepareEvent) event).referenceType();
+		Set<IJDIEventListener> listeners = getListeners(event, type, eventSet);
+		if (listeners == null) {
+			// the class matches the patterns of several requests
+			return true;
+		}
+		if (JDIDebugOptions.DEBUG_JDI_EVENTS) {
+			JDIDebugOptions.trace(NLS.bind("Class prepare of {0} dispatched to {1} listeners", type.name(), Integer.valueOf(listeners.size()))); //$NON-NLS-1$
+		}
+		boolean resume = true;
+		for (IJDIEventListener listener : listeners) {
+			try {
+				resume = listener.handleEvent(event, target, suspendVote || !resume, eventSet) && resume;
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.log(e);
+			}
+		}
+		return resume;
+	}
+
+	/**
+	 * Returns the listeners to notify of the given event, or <code>null</code> if they were notified of another event of the same event set
+	 * for the same class.
+	 */
+	private synchronized Set<IJDIEventListener> getListeners(Event event, ReferenceType type, EventSet eventSet) {
+		if (eventSet == fLastEventSet && type.equals(fLastType)) {
+			return null;
+		}
+		fLastEventSet = eventSet;
+		fLastType = type;
+		Set<IJDIEventListener> listeners = getListeners(type.name());
+		fNotified.put(event, listeners);
+		return listeners;
+	}
+
+	private synchronized Set<IJDIEventListener> removeListeners(Event event, EventSet eventSet) {
+		if (eventSet == fLastEventSet) {
+			fLastEventSet = null;
+			fLastType = null;
+		}
+		return fNotified.remove(event);
+	}
+
+	@Override
+	public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspend, EventSet eventSet) {
+		Set<IJDIEventListener> listeners = removeListeners(event, eventSet);
+		if (listeners == null) {
+			return;
+		}
+		for (IJDIEventListener listener : listeners) {
+			listener.eventSetComplete(event, target, suspend, eventSet);
+		}
+	}
+}
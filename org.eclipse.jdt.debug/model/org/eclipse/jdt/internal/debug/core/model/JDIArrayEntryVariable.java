@@ -46,6 +46,12 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	 */
 	private final ArrayReference fArray;
 
+	/**
+	 * The array value sharing the pages of values it fetches with its entries,
+	 * or <code>null</code>
+	 */
+	private final JDIArrayValue fArrayValue;
+
 	/**
 	 * The reference type name of this variable. Cached lazily.
 	 */
@@ -77,6 +83,31 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 			int index, IJavaValue logicalParent) {
 		super(target);
 		fArray = array;
+		fArrayValue = null;
+		fIndex = index;
+		fLogicalParent = logicalParent;
+	}
+
+	/**
+	 * Constructs an entry at the given index in an array value, which
+	 * retrieves the value of the entry from the pages of values fetched by the
+	 * array value.
+	 *
+	 * @param target
+	 *            debug target containing the array entry
+	 * @param array
+	 *            array value containing the entry
+	 * @param index
+	 *            index into the array
+	 * @param logicalParent
+	 *            original logical parent value, or <code>null</code> if not a
+	 *            child of a logical structure
+	 */
+	JDIArrayEntryVariable(JDIDebugTarget target, JDIArrayValue array,
+			int index, IJavaValue logicalParent) {
+		super(target);
+		fArray = array.getArrayReference();
+		fArrayValue = array;
 		fIndex = index;
 		fLogicalParent = logicalParent;
 	}
@@ -85,7 +116,10 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	 * Returns this variable's current underlying value.
 	 */
 	@Override
-	protected Value retrieveValue() {
+	protected Value retrieveValue() throws DebugException {
+		if (fArrayValue != null) {
+			return fArrayValue.getPagedValue(getIndex());
+		}
 		ArrayReference ar = getArrayReference();
 		if (ar != null) {
 			return ar.getValue(getIndex());
@@ -111,6 +145,7 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 		}
 		try {
 			ar.setValue(getIndex(), value);
+			getJavaDebugTarget().valueModified();
 			fireChangeEvent(DebugEvent.CONTENT);
 		} catch (ClassNotLoadedException e) {
 			targetRequestFailed(
@@ -13,27 +13,61 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.model;
 
+import java.lang.reflect.Array;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaValue;
 
 import com.sun.jdi.ArrayReference;
+import com.sun.jdi.ArrayType;
+import com.sun.jdi.BooleanValue;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.InvalidTypeException;
+import com.sun.jdi.PrimitiveValue;
 import com.sun.jdi.Value;
 
 public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		IIndexedValue {
 
+	/**
+	 * Number of entries of the pages of values fetched at once
+	 */
+	static final int PAGE_SIZE = 100;
+
+	/**
+	 * Maximum number of pages cached for an array
+	 */
+	static final int MAX_PAGES = 16;
+
 	private int fLength = -1;
 
+	/**
+	 * Pages of values of the array by page number, least recently used first,
+	 * valid while the target suspend, resume and modification counts are the
+	 * ones recorded
+	 */
+	private final Map<Integer, List<Value>> fPages = new LinkedHashMap<>(4, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, List<Value>> eldest) {
+			return size() > MAX_PAGES;
+		}
+	};
+	private int fPagesSuspendCount = -1;
+	private int fPagesResumeCount = -1;
+	private int fPagesModificationCount = -1;
+
 	/**
 	 * Constructs a value which is a reference to an array.
 	 *
@@ -68,7 +102,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	 */
 	@Override
 	public IJavaValue getValue(int index) throws DebugException {
-		Value v = getUnderlyingValue(index);
+		Value v = getPagedValue(index);
 		return JDIValue.createValue((JDIDebugTarget) getDebugTarget(), v);
 	}
 
@@ -98,6 +132,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		try {
 			getArrayReference().setValue(index,
 					((JDIValue) value).getUnderlyingValue());
+			getJavaDebugTarget().valueModified();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -118,6 +153,95 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		}
 	}
 
+	/**
+	 * @see IJavaArray#getPrimitiveValues(int, int)
+	 */
+	@Override
+	public Object getPrimitiveValues(int offset, int length) throws DebugException {
+		if (offset < 0 || length < 0 || offset + length > getLength()) {
+			requestFailed(JDIDebugModelMessages.JDIArrayValue_8, new IndexOutOfBoundsException(Integer.toString(offset + length - 1)));
+		}
+		ArrayReference array = getArrayReference();
+		try {
+			String signature = ((ArrayType) array.type()).componentSignature();
+			if (signature.length() != 1) {
+				return null;
+			}
+			if (length == 0) {
+				return Array.newInstance(getPrimitiveClass(signature.charAt(0)), 0);
+			}
+			if (array instanceof ArrayReferenceImpl) {
+				return ((ArrayReferenceImpl) array).getPrimitiveValues(offset, length);
+			}
+			List<Value> values = array.getValues(offset, length);
+			Object result = Array.newInstance(getPrimitiveClass(signature.charAt(0)), length);
+			for (int i = 0; i < length; i++) {
+				Value value = values.get(i);
+				if (value instanceof BooleanValue) {
+					Array.setBoolean(result, i, ((BooleanValue) value).value());
+				} else {
+					setPrimitive(result, i, signature.charAt(0), (PrimitiveValue) value);
+				}
+			}
+			return result;
+		} catch (RuntimeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_retrieving_values_from_array,
+							e.toString()), e);
+		}
+		// execution will not reach this line as
+		// an exception will be thrown
+		return null;
+	}
+
+	private static Class<?> getPrimitiveClass(char signature) {
+		switch (signature) {
+			case 'Z':
+				return boolean.class;
+			case 'B':
+				return byte.class;
+			case 'C':
+				return char.class;
+			case 'S':
+				return short.class;
+			case 'I':
+				return int.class;
+			case 'J':
+				return long.class;
+			case 'F':
+				return float.class;
+			default:
+				return double.class;
+		}
+	}
+
+	private static void setPrimitive(Object array, int index, char signature, PrimitiveValue value) {
+		switch (signature) {
+			case 'B':
+				((byte[]) array)[index] = value.byteValue();
+				break;
+			case 'C':
+				((char[]) array)[index] = value.charValue();
+				break;
+			case 'S':
+				((short[]) array)[index] = value.shortValue();
+				break;
+			case 'I':
+				((int[]) array)[index] = value.intValue();
+				break;
+			case 'J':
+				((long[]) array)[index] = value.longValue();
+				break;
+			case 'F':
+				((float[]) array)[index] = value.floatValue();
+				break;
+			default:
+				((double[]) array)[index] = value.doubleValue();
+				break;
+		}
+	}
+
 	/**
 	 * Returns the underlying array reference for this array.
 	 *
@@ -159,6 +283,119 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		return null;
 	}
 
+	/**
+	 * Returns the underlying value at the given index, fetching the page of
+	 * values containing the index from the underlying array reference unless it
+	 * is cached.
+	 *
+	 * @param index
+	 *            the index at which to retrieve a value
+	 * @return value
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 */
+	protected synchronized Value getPagedValue(int index) throws DebugException {
+		if (index < 0 || index >= getLength()) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		int page = index / PAGE_SIZE;
+		List<Value> values = getPages().get(Integer.valueOf(page));
+		if (values == null) {
+			loadPages(page, page);
+			values = fPages.get(Integer.valueOf(page));
+		}
+		return values.get(index - page * PAGE_SIZE);
+	}
+
+	/**
+	 * Returns the cached pages, after discarding them if the target suspended,
+	 * a thread ran (including for an evaluation) or a value was modified since
+	 * they were fetched.
+	 */
+	private Map<Integer, List<Value>> getPages() {
+		JDIDebugTarget target = getJavaDebugTarget();
+		int suspendCount = target.getSuspendCount();
+		int resumeCount = target.getResumeCount();
+		int modificationCount = target.getModificationCount();
+		if (suspendCount != fPagesSuspendCount || resumeCount != fPagesResumeCount || modificationCount != fPagesModificationCount) {
+			fPages.clear();
+			fPagesSuspendCount = suspendCount;
+			fPagesResumeCount = resumeCount;
+			fPagesModificationCount = modificationCount;
+		}
+		return fPages;
+	}
+
+	/**
+	 * Fetches the values of the given range of pages which are not cached with
+	 * a single request.
+	 *
+	 * @param firstPage
+	 *            first page to fetch
+	 * @param lastPage
+	 *            last page to fetch
+	 */
+	private void loadPages(int firstPage, int lastPage) throws DebugException {
+		Map<Integer, List<Value>> pages = getPages();
+		while (firstPage <= lastPage && pages.containsKey(Integer.valueOf(firstPage))) {
+			firstPage++;
+		}
+		while (lastPage >= firstPage && pages.containsKey(Integer.valueOf(lastPage))) {
+			lastPage--;
+		}
+		if (firstPage > lastPage) {
+			return;
+		}
+		int first = firstPage * PAGE_SIZE;
+		int length = Math.min((lastPage + 1) * PAGE_SIZE, getLength()) - first;
+		List<Value> values;
+		try {
+			values = getArrayReference().getValues(first, length);
+		} catch (IndexOutOfBoundsException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_retrieving_values_from_array,
+							e.toString()), e);
+			// execution will not reach this line as
+			// an exception will be thrown
+			return;
+		}
+		for (int page = firstPage; page <= lastPage; page++) {
+			int start = (page - firstPage) * PAGE_SIZE;
+			int end = Math.min(start + PAGE_SIZE, values.size());
+			pages.put(Integer.valueOf(page), values.subList(start, end));
+		}
+	}
+
+	/**
+	 * Fetches the values of the given range of entries with a single request,
+	 * so that the entry variables of the range share them.
+	 *
+	 * @param offset
+	 *            index of the first entry
+	 * @param length
+	 *            number of entries
+	 */
+	synchronized void prefetch(int offset, int length) throws DebugException {
+		if (length <= 0) {
+			return;
+		}
+		int firstPage = offset / PAGE_SIZE;
+		int lastPage = (offset + length - 1) / PAGE_SIZE;
+		if (lastPage - firstPage >= MAX_PAGES) {
+			// the pages would not all fit in the cache
+			return;
+		}
+		loadPages(firstPage, lastPage);
+	}
+
 	/**
 	 * Returns the underlying values from the underlying array reference.
 	 *
@@ -207,8 +444,8 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		if (offset >= getLength()) {
 			requestFailed(JDIDebugModelMessages.JDIArrayValue_6, new IndexOutOfBoundsException(Integer.toString(offset)));
 		}
-		return new JDIArrayEntryVariable(getJavaDebugTarget(),
-				getArrayReference(), offset, fLogicalParent);
+		return new JDIArrayEntryVariable(getJavaDebugTarget(), this, offset,
+				fLogicalParent);
 	}
 
 	/*
@@ -225,11 +462,12 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		if ((offset + length - 1) >= getLength()) {
 			requestFailed(JDIDebugModelMessages.JDIArrayValue_8, new IndexOutOfBoundsException(Integer.toString(offset + length - 1)));
 		}
+		prefetch(offset, length);
 		IVariable[] variables = new IVariable[length];
 		int index = offset;
 		for (int i = 0; i < length; i++) {
 			variables[i] = new JDIArrayEntryVariable(getJavaDebugTarget(),
-					getArrayReference(), index, fLogicalParent);
+					this, index, fLogicalParent);
 			index++;
 		}
 		return variables;
@@ -270,6 +508,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 				list.add(((JDIValue) value).getUnderlyingValue());
 			}
 			getArrayReference().setValues(offset, list, startOffset, length);
+			getJavaDebugTarget().valueModified();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
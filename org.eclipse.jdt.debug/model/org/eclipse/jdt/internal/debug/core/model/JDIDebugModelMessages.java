@@ -48,6 +48,8 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIDebugTarget_2;
 
 	public static String JDIDebugTarget_4;
+	public static String JDIDebugTarget_5;
+	public static String JDIHeapHistogram_0;
 	public static String JDIDebugTarget_does_not_support_disconnect;
 	public static String JDIDebugTarget_does_not_support_storage_retrieval;
 	public static String JDIDebugTarget_does_not_support_termination;
@@ -201,8 +203,6 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIVariable_does_not_support_value_modification;
 	public static String JDIVariable_exception_retrieving;
 
-	public static String Timer_Timer_cannot_be_started_more_than_once_1;
-
 	public static String JDIObjectValueMethod_declaring_type_not_found_1;
 	public static String JDIObjectValue_method_lookup_failed_for_selector____0____with_signature____1___1;
 	public static String JDIThread_exception_stoping_thread;
@@ -20,9 +20,11 @@ import java.net.URI;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +59,7 @@ import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchListener;
+import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IMemoryBlock;
@@ -67,6 +70,7 @@ import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -82,8 +86,10 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHeapHistogram;
 import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaThreadGroup;
 import org.eclipse.jdt.debug.core.IJavaType;
@@ -94,15 +100,19 @@ import org.eclipse.jdt.debug.eval.EvaluationManager;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.breakpoints.ExceptionBreakpointIndex;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaLineBreakpoint;
+import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.ClassType;
 import com.sun.jdi.InternalException;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.Field;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
@@ -240,6 +250,56 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final AtomicInteger fSuspendCount = new AtomicInteger(0);
 
+	/**
+	 * Count of the modifications of array entries and fields through the debug
+	 * model, after which cached values are stale
+	 */
+	private final AtomicInteger fModificationCount = new AtomicInteger(0);
+
+	/**
+	 * Count of the times threads of this target started running, including
+	 * for evaluations and method invocations, after which cached values are
+	 * stale
+	 */
+	private final AtomicInteger fResumeCount = new AtomicInteger(0);
+
+	/**
+	 * Maximum number of types whose sorted fields are cached
+	 */
+	private static final int MAX_SORTED_FIELDS = 256;
+
+	/**
+	 * All fields of the types whose objects were expanded, sorted as the
+	 * children of an object, least recently used first
+	 */
+	private final Map<ReferenceType, List<Field>> fSortedFields = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ReferenceType, List<Field>> eldest) {
+			return size() > MAX_SORTED_FIELDS;
+		}
+	};
+
+	/**
+	 * Maximum number of types whose applicable logical structures are cached
+	 */
+	private static final int MAX_LOGICAL_STRUCTURE_TYPES = 256;
+
+	/**
+	 * Logical structures applicable to the types whose objects were shown,
+	 * each with the type of the hierarchy it applies to, least recently used
+	 * first
+	 */
+	private final Map<ReferenceType, Map<ILogicalStructureType, IJavaReferenceType>> fLogicalStructureTypes = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ReferenceType, Map<ILogicalStructureType, IJavaReferenceType>> eldest) {
+			return size() > MAX_LOGICAL_STRUCTURE_TYPES;
+		}
+	};
+
 	/** Number of extra VM.resume operations needed due SUSPEND_VM breakpoints */
 	private final AtomicInteger extraResumeCount = new AtomicInteger(0);
 
@@ -333,6 +393,41 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final Map<String, Boolean> fKnownTypes = new ConcurrentHashMap<>();
 
+	/**
+	 * Class filters of exception breakpoints by exception type name, discarded whenever a breakpoint changes
+	 */
+	private final ExceptionBreakpointIndex fExceptionBreakpointIndex = new ExceptionBreakpointIndex();
+
+	/**
+	 * Shares the class prepare requests of breakpoints
+	 */
+	private final ClassPrepareMultiplexer fClassPrepareMultiplexer = new ClassPrepareMultiplexer(this);
+
+	/**
+	 * Whether an enabled trigger point is installed in this target. While it is, the requests of the other breakpoints are disabled in the VM,
+	 * instead of suspending threads that are resumed because no trigger point was hit yet.
+	 */
+	private volatile boolean fTriggerPointsActive = false;
+
+	/**
+	 * Number of events of breakpoint requests handled in this target, and number of these events for which threads stayed suspended
+	 */
+	private final AtomicInteger fBreakpointEventCount = new AtomicInteger(0);
+	private final AtomicInteger fBreakpointHitCount = new AtomicInteger(0);
+
+	/**
+	 * Request batch of each thread installing breakpoints, or <code>null</code> when the thread is not in a batch
+	 */
+	private final ThreadLocal<RequestBatch> fRequestBatch = new ThreadLocal<>();
+
+	/**
+	 * Event requests to enable at the end of a request batch.
+	 */
+	private static class RequestBatch {
+		int fDepth;
+		final Set<EventRequest> fRequests = new LinkedHashSet<>();
+	}
+
 	/**
 	 * Labels given by the user is stored in this map, where the key is the unique ID of the object.
 	 */
@@ -601,10 +696,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		manager.addBreakpointListener(this);
 		IBreakpoint[] bps = manager.getBreakpoints(JDIDebugModel
 				.getPluginIdentifier());
-		for (IBreakpoint bp : bps) {
-			if (bp instanceof IJavaBreakpoint) {
-				breakpointAdded(bp);
+		beginRequestBatch();
+		try {
+			for (IBreakpoint bp : bps) {
+				if (bp instanceof IJavaBreakpoint) {
+					breakpointAdded(bp);
+				}
 			}
+		} finally {
+			endRequestBatch();
 		}
 	}
 
@@ -1552,6 +1652,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	@Override
 	public void breakpointAdded(IBreakpoint breakpoint) {
+		fExceptionBreakpointIndex.clear();
 		if (!isAvailable()) {
 			return;
 		}
@@ -1568,6 +1669,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 						javaBreakpoint.addToTarget(this);
 					}
 					getBreakpoints().add(breakpoint);
+					if (javaBreakpoint.isTriggerPoint()) {
+						updateTriggerPointsActive();
+					}
 				}
 			} catch (CoreException e) {
 				logError(e);
@@ -1586,6 +1690,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	@Override
 	public void breakpointChanged(IBreakpoint breakpoint, IMarkerDelta delta) {
+		fExceptionBreakpointIndex.clear();
+		if (isAvailable() && supportsBreakpoint(breakpoint)) {
+			// the trigger point flag or the enablement of a trigger point may have changed
+			updateTriggerPointsActive();
+		}
 	}
 
 	/**
@@ -1598,6 +1707,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	@Override
 	public void breakpointRemoved(IBreakpoint breakpoint, IMarkerDelta delta) {
+		fExceptionBreakpointIndex.clear();
 		if (!isAvailable()) {
 			return;
 		}
@@ -1605,6 +1715,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			try {
 				((JavaBreakpoint) breakpoint).removeFromTarget(this);
 				getBreakpoints().remove(breakpoint);
+				if (fTriggerPointsActive) {
+					updateTriggerPointsActive();
+				}
 				Iterator<JDIThread> threads = getThreadIterator();
 				while (threads.hasNext()) {
 					threads.next()
@@ -1616,6 +1729,210 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Updates whether an enabled trigger point is installed in this target and, if that changed, the enabled state of the requests of the
+	 * breakpoints in the VM.
+	 */
+	private void updateTriggerPointsActive() {
+		boolean active = false;
+		for (Object breakpoint : getBreakpoints().toArray()) {
+			try {
+				if (breakpoint instanceof JavaBreakpoint javaBreakpoint && javaBreakpoint.isTriggerPoint() && javaBreakpoint.isEnabled()) {
+					active = true;
+					break;
+				}
+			} catch (CoreException e) {
+				// the marker of the breakpoint was deleted
+			}
+		}
+		if (active == fTriggerPointsActive) {
+			return;
+		}
+		fTriggerPointsActive = active;
+		if (JDIDebugOptions.DEBUG_JDI_EVENTS) {
+			JDIDebugOptions.trace(NLS.bind("Trigger points active: {0}", Boolean.valueOf(active))); //$NON-NLS-1$
+		}
+		beginRequestBatch();
+		try {
+			for (Object breakpoint : getBreakpoints().toArray()) {
+				if (breakpoint instanceof JavaBreakpoint javaBreakpoint) {
+					javaBreakpoint.updateEnabledState(this);
+				}
+			}
+		} finally {
+			endRequestBatch();
+		}
+	}
+
+	/**
+	 * Returns whether the requests of the given breakpoint are to be disabled in the VM because an enabled trigger point is installed in this
+	 * target and the breakpoint is not a trigger point. The thread would otherwise be resumed when hitting the breakpoint.
+	 *
+	 * @param breakpoint
+	 *            a breakpoint installed in this target
+	 * @return whether the requests of the breakpoint are to be disabled
+	 */
+	public boolean isSuppressedByTriggerPoints(JavaBreakpoint breakpoint) {
+		if (!fTriggerPointsActive) {
+			return false;
+		}
+		try {
+			return !breakpoint.isTriggerPoint();
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Records that an event of a breakpoint request was handled in this target.
+	 *
+	 * @param hit
+	 *            whether the thread of the event stays suspended
+	 */
+	public void breakpointEventHandled(boolean hit) {
+		fBreakpointEventCount.incrementAndGet();
+		if (hit) {
+			fBreakpointHitCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of events of breakpoint requests handled in this target. Each of these events suspended a thread in the VM, so the
+	 * ratio of this count to {@link #getBreakpointHitCount()} measures the suspensions per hit that conditions, filters and hit counts
+	 * evaluated in the debugger cost.
+	 *
+	 * @return number of events of breakpoint requests
+	 */
+	public int getBreakpointEventCount() {
+		return fBreakpointEventCount.get();
+	}
+
+	/**
+	 * Returns the number of events of breakpoint requests handled in this target for which the thread stayed suspended.
+	 *
+	 * @return number of breakpoint hits
+	 */
+	public int getBreakpointHitCount() {
+		return fBreakpointHitCount.get();
+	}
+
+	/**
+	 * Returns the index of exception breakpoint class filters used when handling exception events in this target.
+	 *
+	 * @return index of exception breakpoint class filters
+	 */
+	public ExceptionBreakpointIndex getExceptionBreakpointIndex() {
+		return fExceptionBreakpointIndex;
+	}
+
+	/**
+	 * Returns the multiplexer sharing class prepare requests between the breakpoints of this target.
+	 *
+	 * @return class prepare multiplexer of this target
+	 */
+	public ClassPrepareMultiplexer getClassPrepareMultiplexer() {
+		return fClassPrepareMultiplexer;
+	}
+
+	/**
+	 * Starts a batch of request changes on the calling thread. Requests enabled through {@link #setRequestEnabled(EventRequest, boolean)} are
+	 * enabled in the target VM when the outermost batch ends, with all commands sent before waiting for the first reply. Batches must be ended by
+	 * {@link #endRequestBatch()} in a <code>finally</code> block, and must end before the VM is resumed from the events that caused the requests
+	 * to be created.
+	 */
+	public void beginRequestBatch() {
+		RequestBatch batch = fRequestBatch.get();
+		if (batch == null) {
+			batch = new RequestBatch();
+			fRequestBatch.set(batch);
+		}
+		batch.fDepth++;
+	}
+
+	/**
+	 * Ends a batch of request changes started by {@link #beginRequestBatch()}, enabling the requests of the batch when it is the outermost batch.
+	 */
+	public void endRequestBatch() {
+		RequestBatch batch = fRequestBatch.get();
+		if (batch == null || --batch.fDepth > 0) {
+			return;
+		}
+		fRequestBatch.remove();
+		if (batch.fRequests.isEmpty()) {
+			return;
+		}
+		List<EventRequest> requests = new ArrayList<>(batch.fRequests);
+		try {
+			EventRequestManager manager = getEventRequestManager();
+			if (manager instanceof EventRequestManagerImpl) {
+				((EventRequestManagerImpl) manager).enableEventRequests(requests).forEach(this::logRequestFailure);
+			} else if (manager != null) {
+				for (EventRequest request : requests) {
+					try {
+						request.enable();
+					} catch (VMDisconnectedException e) {
+						throw e;
+					} catch (RuntimeException e) {
+						logRequestFailure(request, e);
+					}
+				}
+			}
+			if (JDIDebugOptions.DEBUG_JDI_EVENTS) {
+				JDIDebugOptions.trace(NLS.bind("Enabled {0} event requests in a batch", Integer.valueOf(requests.size()))); //$NON-NLS-1$
+			}
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			internalError(e);
+		}
+	}
+
+	/**
+	 * Logs the failure to enable the given request of a request batch, along with the breakpoint that created the request.
+	 */
+	private void logRequestFailure(EventRequest request, RuntimeException e) {
+		if (e instanceof VMDisconnectedException || isTerminated() || isDisconnected()) {
+			return;
+		}
+		JDIDebugPlugin.logError("Exception occurred while enabling request: " + request + ", of breakpoint: " //$NON-NLS-1$ //$NON-NLS-2$
+				+ request.getProperty(JavaBreakpoint.JAVA_BREAKPOINT_PROPERTY), e);
+	}
+
+	/**
+	 * Returns whether the given request is enabled, or is to be enabled at the end of the request batch of the calling thread.
+	 *
+	 * @param request
+	 *            an event request of this target
+	 * @return whether the request is or will be enabled
+	 */
+	public boolean isRequestEnabled(EventRequest request) {
+		if (request.isEnabled()) {
+			return true;
+		}
+		RequestBatch batch = fRequestBatch.get();
+		return batch != null && batch.fRequests.contains(request);
+	}
+
+	/**
+	 * Enables or disables the given request. When the calling thread is in a request batch, enabling is deferred to the end of the batch.
+	 *
+	 * @param request
+	 *            an event request of this target
+	 * @param enabled
+	 *            whether to enable the request
+	 */
+	public void setRequestEnabled(EventRequest request, boolean enabled) {
+		RequestBatch batch = fRequestBatch.get();
+		if (enabled) {
+			if (batch == null) {
+				request.enable();
+			} else if (!request.isEnabled()) {
+				batch.fRequests.add(request);
+			}
+		} else if (batch == null || !batch.fRequests.remove(request)) {
+			request.disable();
+		}
+	}
+
 	@Override
 	public void suspend() throws DebugException {
 		if (isSuspended()) {
@@ -1825,6 +2142,10 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		fKnownTypes.clear();
 		fProjects = null;
 		fBreakpoints.clear();
+		synchronized (fSortedFields) {
+			fSortedFields.clear();
+		}
+		clearLogicalStructureTypes();
 	}
 
 	/**
@@ -2756,6 +3077,110 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return fSuspendCount.get();
 	}
 
+	/**
+	 * Returns all the fields of the given type, static fields first and sorted
+	 * by name within each group, as the children of its objects are. The list
+	 * is shared by all the objects of the type.
+	 *
+	 * @param type
+	 *            a reference type
+	 * @return unmodifiable list of the fields of the type
+	 */
+	protected List<Field> getSortedFields(ReferenceType type) {
+		synchronized (fSortedFields) {
+			List<Field> fields = fSortedFields.get(type);
+			if (fields != null) {
+				return fields;
+			}
+		}
+		List<Field> fields = new ArrayList<>(type.allFields());
+		fields.sort(Comparator.comparing((Field field) -> !field.isStatic()).thenComparing(Field::name, String.CASE_INSENSITIVE_ORDER));
+		fields = Collections.unmodifiableList(fields);
+		synchronized (fSortedFields) {
+			fSortedFields.put(type, fields);
+		}
+		return fields;
+	}
+
+	/**
+	 * Returns the logical structures resolved for the given type by
+	 * {@link #setLogicalStructureTypes(ReferenceType, Map)}, or
+	 * <code>null</code> if they are not known.
+	 *
+	 * @param type
+	 *            a reference type
+	 * @return logical structures applicable to the type, each with the type of
+	 *         the hierarchy it applies to, or <code>null</code>
+	 */
+	public Map<ILogicalStructureType, IJavaReferenceType> getLogicalStructureTypes(ReferenceType type) {
+		synchronized (fLogicalStructureTypes) {
+			return fLogicalStructureTypes.get(type);
+		}
+	}
+
+	/**
+	 * Remembers the logical structures applicable to the given type, so that
+	 * the hierarchy of the type is not walked again for each of its objects.
+	 *
+	 * @param type
+	 *            a reference type
+	 * @param structures
+	 *            logical structures applicable to the type, each with the type
+	 *            of the hierarchy it applies to
+	 */
+	public void setLogicalStructureTypes(ReferenceType type, Map<ILogicalStructureType, IJavaReferenceType> structures) {
+		synchronized (fLogicalStructureTypes) {
+			fLogicalStructureTypes.put(type, structures);
+		}
+	}
+
+	/**
+	 * Forgets the logical structures resolved for types, after the defined
+	 * logical structures changed.
+	 */
+	public void clearLogicalStructureTypes() {
+		synchronized (fLogicalStructureTypes) {
+			fLogicalStructureTypes.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of modifications of array entries and fields through
+	 * the debug model in this target.
+	 *
+	 * @return the number of modifications
+	 */
+	protected int getModificationCount() {
+		return fModificationCount.get();
+	}
+
+	/**
+	 * Notes that an array entry or a field was modified through the debug
+	 * model, so that cached values are fetched again.
+	 */
+	protected void valueModified() {
+		fModificationCount.getAndIncrement();
+	}
+
+	/**
+	 * Returns the number of times threads of this target started running,
+	 * whether resumed, stepping, evaluating or invoking a method. Unlike the
+	 * suspend count, this count also changes for implicit evaluations.
+	 *
+	 * @return the number of times threads started running
+	 */
+	protected int getResumeCount() {
+		return fResumeCount.get();
+	}
+
+	/**
+	 * Notes that a thread of this target started running, so that cached
+	 * values are fetched again.
+	 */
+	protected void threadResumed() {
+		fResumeCount.getAndIncrement();
+	}
+
 	/**
 	 * Increments the suspend counter for this target based on the reason for
 	 * the suspend event. The suspend count is not updated for implicit
@@ -3063,6 +3488,29 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	@Override
+	public IJavaHeapHistogram getHeapHistogram() throws DebugException {
+		VirtualMachine vm = getVM();
+		if (vm == null) {
+			requestFailed(JDIDebugModelMessages.JDIDebugTarget_5,
+					new VMDisconnectedException());
+		}
+		if (!supportsInstanceRetrieval()) {
+			return null;
+		}
+		try {
+			// one request for the counts of all types
+			List<ReferenceType> types = vm.allClasses();
+			long[] counts = vm.instanceCounts(types);
+			return new JDIHeapHistogram(this, types.toArray(new ReferenceType[types.size()]), counts);
+		} catch (RuntimeException e) {
+			targetRequestFailed(JDIDebugModelMessages.JDIDebugTarget_5, e);
+			// execution will not reach this line, as
+			// #targetRequestFailed will throw an exception
+			return null;
+		}
+	}
+
 	@Override
 	public void refreshState() throws DebugException {
 		if (isTerminated() || isDisconnected()) {
@@ -63,6 +63,12 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 	 */
 	private IJavaValue fLogicalParent;
 
+	/**
+	 * The object value fetching the values of all its fields at once, or
+	 * <code>null</code>
+	 */
+	private JDIObjectValue fObjectValue;
+
 	/**
 	 * Constructs a field for the given field.
 	 */
@@ -77,6 +83,16 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 		fLogicalParent = logicalParent;
 	}
 
+	/**
+	 * Constructs a field of the given object value, which retrieves its value
+	 * from the values of all the fields of the object fetched at once.
+	 */
+	JDIFieldVariable(JDIDebugTarget target, Field field,
+			JDIObjectValue object, IJavaValue logicalParent) {
+		this(target, field, object.getUnderlyingObject(), logicalParent);
+		fObjectValue = object;
+	}
+
 	/**
 	 * Constructs a field to wrap the given field.
 	 */
@@ -92,6 +108,9 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 	 */
 	@Override
 	protected Value retrieveValue() {
+		if (fObjectValue != null) {
+			return fObjectValue.getFieldValue(getField());
+		}
 		if (getField().isStatic()) {
 			return (getField().declaringType().getValue(getField()));
 		}
@@ -138,6 +157,7 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 			} else {
 				getObjectReference().setValue(getField(), value);
 			}
+			getJavaDebugTarget().valueModified();
 			fireChangeEvent(DebugEvent.CONTENT);
 		} catch (ClassNotLoadedException e) {
 			targetRequestFailed(
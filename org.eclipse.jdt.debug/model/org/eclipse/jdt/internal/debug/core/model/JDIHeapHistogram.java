@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaHeapHistogram;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
+
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Heap histogram of a Java debug target, built from the counts of one
+ * <code>VirtualMachine.instanceCounts</code> request over all loaded types.
+ */
+public class JDIHeapHistogram implements IJavaHeapHistogram {
+
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * Types and counts of the entries, sorted by decreasing count
+	 */
+	private final ReferenceType[] fTypes;
+	private final long[] fCounts;
+	private final long fTotalCount;
+
+	/**
+	 * Constructs the histogram of the given counts, omitting the types whose
+	 * count is zero.
+	 *
+	 * @param target
+	 *            the target the types are loaded in
+	 * @param types
+	 *            reference types
+	 * @param counts
+	 *            count of each type, in the same order
+	 */
+	JDIHeapHistogram(JDIDebugTarget target, ReferenceType[] types, long[] counts) {
+		fTarget = target;
+		// sort the indices by count as the low and high halves of primitive keys
+		long[] keys = new long[counts.length];
+		int size = 0;
+		long total = 0;
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] != 0) {
+				int count = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, counts[i]));
+				keys[size++] = ((long) count << 32) | i;
+				total += counts[i];
+			}
+		}
+		Arrays.sort(keys, 0, size);
+		fTypes = new ReferenceType[size];
+		fCounts = new long[size];
+		for (int i = 0; i < size; i++) {
+			int index = (int) keys[size - 1 - i];
+			fTypes[i] = types[index];
+			fCounts[i] = counts[index];
+		}
+		fTotalCount = total;
+	}
+
+	@Override
+	public int size() {
+		return fTypes.length;
+	}
+
+	@Override
+	public String getTypeName(int index) {
+		return fTypes[index].name();
+	}
+
+	@Override
+	public IJavaReferenceType getType(int index) {
+		return (IJavaReferenceType) JDIType.createType(fTarget, fTypes[index]);
+	}
+
+	@Override
+	public long getCount(int index) {
+		return fCounts[index];
+	}
+
+	@Override
+	public long getTotalCount() {
+		return fTotalCount;
+	}
+
+	@Override
+	public IJavaHeapHistogram subtract(IJavaHeapHistogram previous) throws DebugException {
+		if (!(previous instanceof JDIHeapHistogram) || ((JDIHeapHistogram) previous).fTarget != fTarget) {
+			fTarget.requestFailed(JDIDebugModelMessages.JDIHeapHistogram_0, null);
+		}
+		JDIHeapHistogram other = (JDIHeapHistogram) previous;
+		Map<ReferenceType, Integer> indices = new HashMap<>(other.fTypes.length * 2);
+		for (int i = 0; i < other.fTypes.length; i++) {
+			indices.put(other.fTypes[i], Integer.valueOf(i));
+		}
+		boolean[] matched = new boolean[other.fTypes.length];
+		ReferenceType[] types = new ReferenceType[fTypes.length + other.fTypes.length];
+		long[] counts = new long[types.length];
+		int size = 0;
+		for (int i = 0; i < fTypes.length; i++) {
+			Integer index = indices.get(fTypes[i]);
+			long count = fCounts[i];
+			if (index != null) {
+				matched[index.intValue()] = true;
+				count -= other.fCounts[index.intValue()];
+			}
+			types[size] = fTypes[i];
+			counts[size++] = count;
+		}
+		for (int i = 0; i < other.fTypes.length; i++) {
+			if (!matched[i]) {
+				// all the instances were collected, or the type was unloaded
+				types[size] = other.fTypes[i];
+				counts[size++] = -other.fCounts[i];
+			}
+		}
+		return new JDIHeapHistogram(fTarget, Arrays.copyOf(types, size), Arrays.copyOf(counts, size));
+	}
+}
@@ -155,6 +155,14 @@ public class JDINullValue extends JDIObjectValue {
 		return new IJavaObject[0];
 	}
 
+	/**
+	 * @see org.eclipse.jdt.internal.debug.core.model.JDIObjectValue#getReferringObjectList(long)
+	 */
+	@Override
+	public ObjectReferenceList getReferringObjectList(long max) {
+		return new ObjectReferenceList(getJavaDebugTarget(), Collections.emptyList());
+	}
+
 	/**
 	 * @see org.eclipse.jdt.internal.debug.core.model.JDIObjectValue#sendMessage(java.lang.String,
 	 *      java.lang.String, org.eclipse.jdt.debug.core.IJavaValue[],
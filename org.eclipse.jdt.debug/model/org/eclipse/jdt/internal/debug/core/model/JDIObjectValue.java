@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
@@ -46,10 +47,20 @@ import com.sun.jdi.Value;
  */
 public class JDIObjectValue extends JDIValue implements IJavaObject {
 
-	private IJavaObject[] fCachedReferences;
+	private ObjectReferenceList fCachedReferences;
 	private int fSuspendCount;
 	private long fPreviousMax;
 
+	/**
+	 * Values of all the fields of this object, fetched at once for its field
+	 * variables, valid while the target suspend, resume and modification
+	 * counts are the ones recorded, or <code>null</code>
+	 */
+	private Map<Field, Value> fFieldValues;
+	private int fFieldValuesSuspendCount = -1;
+	private int fFieldValuesResumeCount = -1;
+	private int fFieldValuesModificationCount = -1;
+
 	/**
 	 * Constructs a new target object on the given target with the specified
 	 * object reference.
@@ -549,6 +560,39 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 		debugTarget.setObjectLabel(this, newLabel);
 	}
 
+	/**
+	 * Returns the value of the given field of this object. The values of all
+	 * the fields of this object are fetched together on the first call, with
+	 * one request for the instance fields and one for the static fields, and
+	 * are answered locally until the target suspends again, a thread runs
+	 * (including for an evaluation) or a value is modified through the debug
+	 * model.
+	 *
+	 * @param field
+	 *            a field of the type of this object
+	 * @return value of the field
+	 */
+	synchronized Value getFieldValue(Field field) {
+		JDIDebugTarget target = getJavaDebugTarget();
+		int suspendCount = target.getSuspendCount();
+		int resumeCount = target.getResumeCount();
+		int modificationCount = target.getModificationCount();
+		if (fFieldValues == null || suspendCount != fFieldValuesSuspendCount || resumeCount != fFieldValuesResumeCount || modificationCount != fFieldValuesModificationCount) {
+			ObjectReference object = getUnderlyingObject();
+			fFieldValues = object.getValues(target.getSortedFields(object.referenceType()));
+			fFieldValuesSuspendCount = suspendCount;
+			fFieldValuesResumeCount = resumeCount;
+			fFieldValuesModificationCount = modificationCount;
+		}
+		if (fFieldValues.containsKey(field)) {
+			return fFieldValues.get(field);
+		}
+		if (field.isStatic()) {
+			return field.declaringType().getValue(field);
+		}
+		return getUnderlyingObject().getValue(field);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -556,6 +600,22 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 	 */
 	@Override
 	public IJavaObject[] getReferringObjects(long max) throws DebugException {
+		return getReferringObjectList(max).toArray();
+	}
+
+	/**
+	 * Returns the objects that reference this object, whose values are created
+	 * as they are accessed.
+	 *
+	 * @param max
+	 *            the maximum number of references to retrieve or 0 to retrieve
+	 *            all references
+	 * @return objects referring to this object
+	 * @throws DebugException
+	 *             if the VM cannot return a list of referring objects
+	 * @see #getReferringObjects(long)
+	 */
+	public synchronized ObjectReferenceList getReferringObjectList(long max) throws DebugException {
 		// The cached references should be reloaded if the suspend count has
 		// changed, or the maximum entries has changed
 		if (fCachedReferences == null
@@ -593,12 +653,7 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 	protected void reloadReferringObjects(long max) throws DebugException {
 		try {
 			List<ObjectReference> list = getUnderlyingObject().referringObjects(max);
-			IJavaObject[] references = new IJavaObject[list.size()];
-			for (int i = 0; i < references.length; i++) {
-				references[i] = (IJavaObject) JDIValue.createValue(
-						getJavaDebugTarget(), list.get(i));
-			}
-			fCachedReferences = references;
+			fCachedReferences = new ObjectReferenceList(getJavaDebugTarget(), list);
 		} catch (RuntimeException e) {
 			fCachedReferences = null;
 			targetRequestFailed(MessageFormat.format(
@@ -15,13 +15,13 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaType;
-import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIPlaceholderVariable;
@@ -45,6 +45,7 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 
 	private final IJavaObject fRoot;
 	private boolean fIsMoreThanPreference;
+	private int fMax;
 	private IJavaType fType = null;
 
 	/**
@@ -71,31 +72,75 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 * @return all references to the root object as an array of IJavaObjects
 	 */
 	protected synchronized IJavaObject[] getReferences() {
+		ObjectReferenceList list = getReferenceList();
+		IJavaObject[] referringObjects = new IJavaObject[list.size()];
+		for (int i = 0; i < referringObjects.length; i++) {
+			referringObjects[i] = getReference(list, i);
+		}
+		return referringObjects;
+	}
+
+	/**
+	 * Retrieves the references to the root object. The values of the
+	 * referring objects are only created as they are accessed.
+	 *
+	 * @return references to the root object, including the one past the
+	 *         maximum count of the preferences, if any
+	 */
+	private synchronized ObjectReferenceList getReferenceList() {
+		int max = HeapWalkingManager.getDefault().getAllReferencesMaxCount();
+		fMax = max;
 		try {
-			int max = HeapWalkingManager.getDefault()
-					.getAllReferencesMaxCount();
-			IJavaObject[] referringObjects = null;
-			fIsMoreThanPreference = false;
-			if (max == 0) {
-				referringObjects = fRoot.getReferringObjects(max);
-			} else {
-				referringObjects = fRoot.getReferringObjects(max + 1);
-				if (referringObjects.length > max) {
-					fIsMoreThanPreference = true;
-					referringObjects[max] = new JDIPlaceholderValue(
-							(JDIDebugTarget) fRoot.getDebugTarget(),
-							MessageFormat
-									.format(JDIDebugModelMessages.JDIReferenceListValue_9,
-											Integer.toString(max)));
-				}
-			}
-			return referringObjects;
+			ObjectReferenceList list = ((JDIObjectValue) fRoot).getReferringObjectList(max == 0 ? max : max + 1);
+			fIsMoreThanPreference = max != 0 && list.size() > max;
+			return list;
 		} catch (DebugException e) {
 			JDIDebugPlugin.log(e);
-			return new IJavaObject[0];
+			fIsMoreThanPreference = false;
+			return new ObjectReferenceList((JDIDebugTarget) getDebugTarget(), Collections.emptyList());
 		}
 	}
 
+	/**
+	 * @return number of references to the root object, including a
+	 *         placeholder if there are more than the preference
+	 */
+	private synchronized int getReferenceCount() {
+		return getReferenceList().size();
+	}
+
+	/**
+	 * Returns the reference to the root object at the given index, or a
+	 * placeholder past the maximum count of the preferences.
+	 *
+	 * @param list
+	 *            references to the root object
+	 * @param index
+	 *            index of the reference
+	 * @return referring object or placeholder
+	 */
+	private IJavaObject getReference(ObjectReferenceList list, int index) {
+		if (fIsMoreThanPreference && index == fMax) {
+			return new JDIPlaceholderValue((JDIDebugTarget) fRoot.getDebugTarget(), MessageFormat.format(JDIDebugModelMessages.JDIReferenceListValue_9, Integer.toString(fMax)));
+		}
+		return list.get(index);
+	}
+
+	/**
+	 * Returns the variable for the reference at the given index.
+	 *
+	 * @param index
+	 *            index of the reference
+	 * @return variable for the reference
+	 */
+	private synchronized IVariable createVariable(int index) {
+		IJavaObject reference = getReference(getReferenceList(), index);
+		if (fIsMoreThanPreference && index == fMax) {
+			return new JDIPlaceholderVariable(JDIDebugModelMessages.JDIReferenceListValue_11, reference);
+		}
+		return new JDIReferenceListEntryVariable(MessageFormat.format(JDIDebugModelMessages.JDIReferenceListValue_0, Integer.toString(index)), reference);
+	}
+
 	/**
 	 * @return whether the references to the root object have been loaded from
 	 *         the vm yet.
@@ -114,20 +159,10 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		IJavaObject[] elements = getReferences();
-		IVariable[] vars = new JDIPlaceholderVariable[elements.length];
-		int length = elements.length;
-		if (fIsMoreThanPreference) {
-			length--;
-			vars[length] = new JDIPlaceholderVariable(
-					JDIDebugModelMessages.JDIReferenceListValue_11,
-					elements[length]);
-		}
-
+		int length = getReferenceCount();
+		IVariable[] vars = new JDIPlaceholderVariable[length];
 		for (int i = 0; i < length; i++) {
-			vars[i] = new JDIReferenceListEntryVariable(MessageFormat.format(
-					JDIDebugModelMessages.JDIReferenceListValue_0,
-					Integer.toString(i)), elements[i]);
+			vars[i] = createVariable(i);
 		}
 		return vars;
 	}
@@ -152,7 +187,7 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	@Override
 	public boolean hasVariables() throws DebugException {
 		if (referencesLoaded()) {
-			return getReferences().length > 0;
+			return getReferenceCount() > 0;
 		}
 		return true;
 	}
@@ -303,7 +338,7 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 */
 	@Override
 	public int getSize() throws DebugException {
-		return getVariables().length;
+		return getReferenceCount();
 	}
 
 	/*
@@ -313,9 +348,8 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 */
 	@Override
 	public IVariable getVariable(int offset) throws DebugException {
-		IVariable[] variables = getVariables();
-		if (offset < variables.length) {
-			return variables[offset];
+		if (offset >= 0 && offset < getReferenceCount()) {
+			return createVariable(offset);
 		}
 		requestFailed(JDIDebugModelMessages.JDIReferenceListValue_7, new IndexOutOfBoundsException());
 		return null;
@@ -329,10 +363,12 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	@Override
 	public IVariable[] getVariables(int offset, int length)
 			throws DebugException {
-		IVariable[] variables = getVariables();
-		if (offset < variables.length && (offset + length) <= variables.length) {
-			IJavaVariable[] vars = new IJavaVariable[length];
-			System.arraycopy(variables, offset, vars, 0, length);
+		int size = getReferenceCount();
+		if (offset >= 0 && offset < size && (offset + length) <= size) {
+			IVariable[] vars = new JDIPlaceholderVariable[length];
+			for (int i = 0; i < length; i++) {
+				vars[i] = createVariable(offset + i);
+			}
 			return vars;
 		}
 		requestFailed(JDIDebugModelMessages.JDIReferenceListValue_8, new IndexOutOfBoundsException());
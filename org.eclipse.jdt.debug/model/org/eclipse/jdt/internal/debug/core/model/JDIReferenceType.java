@@ -367,14 +367,25 @@ public abstract class JDIReferenceType extends JDIType implements
 	 */
 	@Override
 	public IJavaObject[] getInstances(long max) throws DebugException {
+		return getInstanceList(max).toArray();
+	}
+
+	/**
+	 * Returns the instances of this type, whose values are created as they are
+	 * accessed.
+	 *
+	 * @param max
+	 *            the maximum number of instances to retrieve or 0 to retrieve
+	 *            all instances
+	 * @return instances of this type
+	 * @throws DebugException
+	 *             if the instances could not be retrieved
+	 * @see #getInstances(long)
+	 */
+	public ObjectReferenceList getInstanceList(long max) throws DebugException {
 		try {
 			List<ObjectReference> list = getReferenceType().instances(max);
-			IJavaObject[] instances = new IJavaObject[list.size()];
-			for (int i = 0; i < instances.length; i++) {
-				instances[i] = (IJavaObject) JDIValue.createValue(
-						getJavaDebugTarget(), list.get(i));
-			}
-			return instances;
+			return new ObjectReferenceList(getJavaDebugTarget(), list);
 		} catch (RuntimeException e) {
 			targetRequestFailed(JDIDebugModelMessages.JDIReferenceType_5, e);
 		}
@@ -213,6 +213,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	private volatile boolean fIsInvokingMethod;
 
+	/**
+	 * Number of method invocations this thread has performed.
+	 */
+	private volatile int fInvocationCount;
+
 	/**
 	 * Lock used to wait for method invocations to complete.
 	 */
@@ -1726,6 +1731,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void setRunning(boolean running) {
 		fRunning = running;
 		if (running) {
+			((JDIDebugTarget) getDebugTarget()).threadResumed();
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
 			}
@@ -2323,6 +2329,17 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return fIsInvokingMethod;
 	}
 
+	/**
+	 * Returns the number of method invocations this thread has performed in
+	 * the target. Clients compare the counts before and after an operation to
+	 * find out how many invocations the operation required.
+	 *
+	 * @return number of method invocations performed by this thread
+	 */
+	public int getInvocationCount() {
+		return fInvocationCount;
+	}
+
 	/**
 	 * Returns whether this thread is currently ignoring breakpoints.
 	 *
@@ -2352,7 +2369,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void setInvokingMethod(boolean invoking) {
 		synchronized (fInvocationLock) {
 			fIsInvokingMethod = invoking;
-			if (!invoking) {
+			if (invoking) {
+				fInvocationCount++;
+			} else {
 				fInvocationLock.notifyAll();
 			}
 		}
@@ -16,12 +16,16 @@ package org.eclipse.jdt.internal.debug.core.model;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+import org.eclipse.jdi.internal.StringReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -37,6 +41,7 @@ import com.sun.jdi.StringReference;
 import com.sun.jdi.Type;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.VoidValue;
 
 /**
@@ -118,6 +123,36 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 		return new JDIValue(target, value);
 	}
 
+	/**
+	 * Retrieves together what the labels of the given values display and is
+	 * not known yet: the types of objects, the lengths of arrays and the
+	 * first characters of strings. Labels built one by one afterwards no
+	 * longer cost round trips to the VM for each value.
+	 *
+	 * @param values
+	 *            values to be labeled, possibly of different targets
+	 * @param maxLength
+	 *            maximum number of characters of strings to retrieve, or 0 for
+	 *            no maximum
+	 * @see #getValueString(int)
+	 */
+	public static void prefetchLabels(List<? extends IJavaValue> values, int maxLength) {
+		Map<VirtualMachine, List<ObjectReferenceImpl>> objects = new HashMap<>();
+		for (IJavaValue value : values) {
+			if (value instanceof JDIValue && ((JDIValue) value).fValue instanceof ObjectReferenceImpl) {
+				ObjectReferenceImpl object = (ObjectReferenceImpl) ((JDIValue) value).fValue;
+				objects.computeIfAbsent(object.virtualMachine(), vm -> new ArrayList<>()).add(object);
+			}
+		}
+		for (List<ObjectReferenceImpl> vmObjects : objects.values()) {
+			try {
+				ObjectReferenceImpl.prefetchLabels(vmObjects, maxLength);
+			} catch (RuntimeException e) {
+				// the labels retrieve what is missing one by one
+			}
+		}
+	}
+
 	/**
 	 * @see IValue#getValueString()
 	 */
@@ -170,6 +205,37 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 		return String.valueOf(fValue);
 	}
 
+	/**
+	 * Returns the value string of this value, with at most the given number of
+	 * characters for a string. Only that many characters of a long string are
+	 * retrieved from the VM.
+	 *
+	 * @param maxLength
+	 *            maximum number of characters of a string, or 0 for no
+	 *            maximum
+	 * @return value string
+	 * @throws DebugException
+	 *             if the value string cannot be retrieved
+	 */
+	public String getValueString(int maxLength) throws DebugException {
+		if (maxLength > 0 && fValue instanceof StringReferenceImpl) {
+			try {
+				return ((StringReferenceImpl) fValue).value(maxLength);
+			} catch (ObjectCollectedException e) {
+				return JDIDebugModelMessages.JDIValue_deallocated;
+			} catch (RuntimeException e) {
+				targetRequestFailed(
+						MessageFormat.format(
+								JDIDebugModelMessages.JDIValue_exception_retrieving_value,
+								new Object[] { e.toString() }), e);
+				// execution will not reach this line, as
+				// #targetRequestFailed will thrown an exception
+				return null;
+			}
+		}
+		return getValueString();
+	}
+
 	/**
 	 * @see IValue#getReferenceTypeName()
 	 */
@@ -247,10 +313,20 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 			if (isArray()) {
 				try {
 					int length = getArrayLength();
-					for (int i = 0; i < length; i++) {
-						fVariables.add(new JDIArrayEntryVariable(
-								getJavaDebugTarget(), getArrayReference(), i,
-								fLogicalParent));
+					if (this instanceof JDIArrayValue) {
+						JDIArrayValue array = (JDIArrayValue) this;
+						array.prefetch(0, length);
+						for (int i = 0; i < length; i++) {
+							fVariables.add(new JDIArrayEntryVariable(
+									getJavaDebugTarget(), array, i,
+									fLogicalParent));
+						}
+					} else {
+						for (int i = 0; i < length; i++) {
+							fVariables.add(new JDIArrayEntryVariable(
+									getJavaDebugTarget(), getArrayReference(), i,
+									fLogicalParent));
+						}
 					}
 				} catch (DebugException e) {
 					if (e.getCause() instanceof ObjectCollectedException) {
@@ -262,7 +338,7 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 				List<Field> fields = null;
 				try {
 					ReferenceType refType = object.referenceType();
-					fields = refType.allFields();
+					fields = getJavaDebugTarget().getSortedFields(refType);
 				} catch (ObjectCollectedException e) {
 					return Collections.EMPTY_LIST;
 				} catch (RuntimeException e) {
@@ -274,14 +350,20 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 					// #targetRequestFailed will thrown an exception
 					return null;
 				}
+				// the fields are sorted as the children
 				Iterator<Field> list = fields.iterator();
 				while (list.hasNext()) {
 					Field field = list.next();
-					fVariables.add(new JDIFieldVariable(
-							(JDIDebugTarget) getDebugTarget(), field, object,
-							fLogicalParent));
+					if (this instanceof JDIObjectValue) {
+						fVariables.add(new JDIFieldVariable(
+								(JDIDebugTarget) getDebugTarget(), field,
+								(JDIObjectValue) this, fLogicalParent));
+					} else {
+						fVariables.add(new JDIFieldVariable(
+								(JDIDebugTarget) getDebugTarget(), field, object,
+								fLogicalParent));
+					}
 				}
-				Collections.sort(fVariables, (a, b) -> sortChildren(a, b));
 			}
 
 			return fVariables;
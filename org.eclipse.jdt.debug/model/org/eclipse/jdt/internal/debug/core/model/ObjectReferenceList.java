@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.List;
+
+import org.eclipse.jdt.debug.core.IJavaObject;
+
+import com.sun.jdi.ObjectReference;
+
+/**
+ * Objects returned by a heap walking request, such as the instances of a type
+ * or the objects referring to an object. The objects are held as the mirrors
+ * returned by the VM and their model values are only created when they are
+ * accessed, so that a view showing one partition of a large result does not
+ * create a value for every object.
+ */
+public class ObjectReferenceList {
+
+	private final JDIDebugTarget fTarget;
+	private final List<ObjectReference> fReferences;
+
+	/**
+	 * Model values created so far, by index
+	 */
+	private final IJavaObject[] fObjects;
+
+	/**
+	 * Constructs a list of the given objects.
+	 *
+	 * @param target
+	 *            the target the objects belong to
+	 * @param references
+	 *            the objects returned by the VM
+	 */
+	public ObjectReferenceList(JDIDebugTarget target, List<ObjectReference> references) {
+		fTarget = target;
+		fReferences = references;
+		fObjects = new IJavaObject[references.size()];
+	}
+
+	/**
+	 * Returns the number of objects in this list.
+	 *
+	 * @return number of objects
+	 */
+	public int size() {
+		return fObjects.length;
+	}
+
+	/**
+	 * Returns the model value of the object at the given index, creating it
+	 * on first access.
+	 *
+	 * @param index
+	 *            index of the object
+	 * @return value of the object
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is not within this list
+	 */
+	public synchronized IJavaObject get(int index) {
+		IJavaObject object = fObjects[index];
+		if (object == null) {
+			object = (IJavaObject) JDIValue.createValue(fTarget, fReferences.get(index));
+			fObjects[index] = object;
+		}
+		return object;
+	}
+
+	/**
+	 * Returns the model values of all the objects in this list, in a new
+	 * array.
+	 *
+	 * @return values of all the objects
+	 */
+	public IJavaObject[] toArray() {
+		IJavaObject[] objects = new IJavaObject[fObjects.length];
+		for (int i = 0; i < objects.length; i++) {
+			objects[i] = get(i);
+		}
+		return objects;
+	}
+}